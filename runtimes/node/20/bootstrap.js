@@ -3,6 +3,21 @@ const fs = require('fs');
 
 const SOCK_PATH = process.env.SOCK_PATH || '/var/run/function.sock';
 const USER_CODE_PATH = '/var/task/index.js';
+// [추가] 런타임 풀 컨테이너만 설정됨 (할당 시 Provisioner가 코드를 채우고 이 파일을 생성)
+const CODE_READY_FILE = process.env.CODE_READY_FILE;
+
+// [추가] 코드가 연결될 때까지 대기 후 함수 환경 변수 적용 (.ready 내용: {"env": {...}})
+function waitForCode() {
+    if (!CODE_READY_FILE) return;
+    const sleeper = new Int32Array(new SharedArrayBuffer(4));
+    while (!fs.existsSync(CODE_READY_FILE)) {
+        Atomics.wait(sleeper, 0, 0, 5);
+    }
+    const ready = JSON.parse(fs.readFileSync(CODE_READY_FILE, 'utf8'));
+    Object.assign(process.env, ready.env || {});
+}
+
+waitForCode();
 
 let userFunction;
 try {
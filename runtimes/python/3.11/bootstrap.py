@@ -1,12 +1,15 @@
 import os
 import sys
 import json
+import time
 import importlib.util
 from http.server import BaseHTTPRequestHandler
 from socketserver import UnixStreamServer
 
 SOCK_PATH = os.environ.get('SOCK_PATH', '/var/run/function.sock')
 USER_CODE_PATH = '/var/task/index.py'
+# [추가] 런타임 풀 컨테이너만 설정됨 (할당 시 Provisioner가 코드를 채우고 이 파일을 생성)
+CODE_READY_FILE = os.environ.get('CODE_READY_FILE')
 
 user_handler = None
 
@@ -21,6 +24,16 @@ def get_memory_usage():
     except:
         return 0
 
+# [추가] 코드가 연결될 때까지 대기 후 함수 환경 변수 적용 (.ready 내용: {"env": {...}})
+def wait_for_code():
+    if not CODE_READY_FILE:
+        return
+    while not os.path.exists(CODE_READY_FILE):
+        time.sleep(0.005)
+    with open(CODE_READY_FILE, 'r') as f:
+        ready = json.load(f)
+    os.environ.update(ready.get("env") or {})
+
 def load_user_code():
     global user_handler
     if not os.path.exists(USER_CODE_PATH):
@@ -103,6 +116,7 @@ class FunctionHandler(BaseHTTPRequestHandler):
         pass
 
 if __name__ == "__main__":
+    wait_for_code()
     load_user_code()
     
     if os.path.exists(SOCK_PATH):
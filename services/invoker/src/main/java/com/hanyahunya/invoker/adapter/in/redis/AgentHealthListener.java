@@ -0,0 +1,59 @@
+package com.hanyahunya.invoker.adapter.in.redis;
+
+import com.hanyahunya.invoker.adapter.out.grpc.AgentHealthTracker;
+import com.hanyahunya.invoker.adapter.out.redis.AgentHealthRedisAdapter;
+import com.hanyahunya.invoker.infra.config.AgentHealthProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * [추가] 다른 Invoker가 감지한 Agent 장애 / 복구 이벤트 구독
+ * 메시지 본문: agentIp
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentHealthListener implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final AgentHealthTracker agentHealthTracker;
+    private final AgentHealthRedisAdapter agentHealthRedisAdapter;
+    private final AgentHealthProperties properties;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(AgentHealthRedisAdapter.AGENT_DOWN_CHANNEL),
+                new ChannelTopic(AgentHealthRedisAdapter.AGENT_UP_CHANNEL)
+        ));
+
+        // 기동 전에 이미 차단된 Agent 반영
+        try {
+            agentHealthRedisAdapter.findDown().forEach(agentHealthTracker::onRemoteDown);
+        } catch (Exception e) {
+            log.warn("Failed to load down agents: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String agentIp = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (AgentHealthRedisAdapter.AGENT_DOWN_CHANNEL.equals(channel)) {
+            agentHealthTracker.onRemoteDown(agentIp, properties.downTtl());
+        } else if (AgentHealthRedisAdapter.AGENT_UP_CHANNEL.equals(channel)) {
+            agentHealthTracker.onRemoteUp(agentIp);
+        }
+    }
+}
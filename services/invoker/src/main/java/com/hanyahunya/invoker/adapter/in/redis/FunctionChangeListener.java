@@ -0,0 +1,45 @@
+package com.hanyahunya.invoker.adapter.in.redis;
+
+import com.hanyahunya.invoker.application.port.in.FunctionChangeUseCase;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * [추가] Registry가 발행하는 함수 변경 이벤트 구독
+ * 메시지 본문: functionId (문자열)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FunctionChangeListener implements MessageListener {
+
+    private static final String FUNCTION_CHANGED_CHANNEL = "func:changed";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final FunctionChangeUseCase functionChangeUseCase;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(FUNCTION_CHANGED_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            functionChangeUseCase.handleFunctionChanged(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid function change event: {}", body);
+        }
+    }
+}
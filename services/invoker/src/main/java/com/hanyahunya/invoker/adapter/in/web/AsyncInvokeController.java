@@ -0,0 +1,47 @@
+package com.hanyahunya.invoker.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.invoker.adapter.in.web.dto.AsyncInvokeResponse;
+import com.hanyahunya.invoker.adapter.in.web.dto.InvokeRequest;
+import com.hanyahunya.invoker.application.port.in.AsyncInvokeUseCase;
+import com.hanyahunya.invoker.application.port.in.InvokeUseCase;
+import com.hanyahunya.invoker.domain.model.AsyncInvocation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+public class AsyncInvokeController {
+
+    private final AsyncInvokeUseCase asyncInvokeUseCase;
+    private final ObjectMapper objectMapper;
+
+    // [추가] 비동기 호출 - 대기열에 넣고 바로 202 + requestId 반환
+    @PostMapping("/invoke/async")
+    public ResponseEntity<AsyncInvokeResponse> invokeFunctionAsync(@RequestBody InvokeRequest request) throws JsonProcessingException {
+        Map<String, Object> params = request.params() != null ? request.params() : Map.of();
+        InvokeUseCase.Command command = new InvokeUseCase.Command(
+                request.functionId(),
+                request.accessKey(),
+                objectMapper.writeValueAsBytes(params)
+        );
+
+        UUID requestId = asyncInvokeUseCase.submit(command);
+        return ResponseEntity.accepted().body(new AsyncInvokeResponse(requestId));
+    }
+
+    // [추가] 비동기 호출 결과 조회 (status: PENDING / RUNNING / SUCCEEDED / FAILED)
+    // [변경] 호출한 함수의 Access Key 필요 (동기 호출과 같은 인증)
+    @GetMapping("/invoke/{requestId}")
+    public ResponseEntity<AsyncInvocation> getAsyncResult(
+            @PathVariable UUID requestId,
+            @RequestHeader("X-Access-Key") String accessKey
+    ) {
+        return ResponseEntity.ok(asyncInvokeUseCase.getResult(requestId, accessKey));
+    }
+}
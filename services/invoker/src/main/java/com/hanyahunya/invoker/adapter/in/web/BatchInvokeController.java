@@ -0,0 +1,92 @@
+package com.hanyahunya.invoker.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.invoker.adapter.in.web.dto.BatchInvokeRequest;
+import com.hanyahunya.invoker.adapter.in.web.dto.BatchInvokeResponse;
+import com.hanyahunya.invoker.adapter.in.web.dto.BatchItemResponse;
+import com.hanyahunya.invoker.adapter.in.web.dto.InvokeRequest;
+import com.hanyahunya.invoker.application.port.in.BatchInvokeUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class BatchInvokeController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final BatchInvokeUseCase batchInvokeUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * [추가] 배치 호출 - 모든 항목이 끝난 뒤 입력 순서대로 한 번에 응답
+     */
+    @PostMapping(value = "/invoke/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchInvokeResponse> invokeBatch(@RequestBody BatchInvokeRequest request) throws JsonProcessingException {
+        BatchInvokeUseCase.Command command = toCommand(request);
+
+        List<BatchItemResponse> results = new ArrayList<>(command.items().size());
+        batchInvokeUseCase.invokeBatch(command, itemResult -> results.add(toResponse(itemResult)));
+        return ResponseEntity.ok(new BatchInvokeResponse(results));
+    }
+
+    /**
+     * [추가] 배치 호출 (NDJSON 스트리밍, Accept: application/x-ndjson)
+     * - 앞 항목부터 끝나는 대로 한 줄씩 전송 (전체 결과를 힙에 모으지 않음)
+     * - 클라이언트 연결이 끊기면 남은 항목은 실행하지 않음
+     */
+    @PostMapping(value = "/invoke/batch", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> invokeBatchStream(@RequestBody BatchInvokeRequest request) throws JsonProcessingException {
+        BatchInvokeUseCase.Command command = toCommand(request);
+
+        StreamingResponseBody body = outputStream -> batchInvokeUseCase.invokeBatch(command, itemResult -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(toResponse(itemResult)));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    private BatchInvokeUseCase.Command toCommand(BatchInvokeRequest request) throws JsonProcessingException {
+        List<InvokeRequest> items = request.items() != null ? request.items() : List.of();
+
+        // params는 항목별로 한 번만 직렬화해서 그대로 Agent까지 전달
+        List<BatchInvokeUseCase.Item> commandItems = new ArrayList<>(items.size());
+        for (InvokeRequest item : items) {
+            Map<String, Object> params = item.params() != null ? item.params() : Map.of();
+            commandItems.add(new BatchInvokeUseCase.Item(
+                    item.functionId(),
+                    item.accessKey(),
+                    objectMapper.writeValueAsBytes(params)
+            ));
+        }
+
+        int parallelism = request.parallelism() != null ? request.parallelism() : Integer.MAX_VALUE;
+        return new BatchInvokeUseCase.Command(commandItems, parallelism);
+    }
+
+    private BatchItemResponse toResponse(BatchInvokeUseCase.ItemResult itemResult) {
+        String result = itemResult.result() != null ? new String(itemResult.result(), StandardCharsets.UTF_8) : null;
+        return new BatchItemResponse(itemResult.index(), itemResult.success(), result, itemResult.errorMessage());
+    }
+}
@@ -1,29 +1,121 @@
 package com.hanyahunya.invoker.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.invoker.adapter.in.web.dto.InvokeRequest;
+import com.hanyahunya.invoker.adapter.in.web.dto.InvokeResponse;
 import com.hanyahunya.invoker.application.port.in.InvokeUseCase;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class InvokeController {
 
     private final InvokeUseCase invokeUseCase;
+    private final ObjectMapper objectMapper;
+
+    private static final byte[] EMPTY_PARAMS = "{}".getBytes(StandardCharsets.UTF_8);
+
+    // [추가] 클라이언트 재시도 중복 제거용 헤더 (같은 키 -> 같은 실행 결과)
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     @PostMapping("/invoke")
-    public ResponseEntity<InvokeUseCase.Result> invokeFunction(@RequestBody InvokeRequest request) {
+    public CompletableFuture<ResponseEntity<InvokeResponse>> invokeFunction(
+            @RequestBody InvokeRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws JsonProcessingException {
+        // params는 여기서 한 번만 직렬화해서 그대로 Agent까지 전달
+        Map<String, Object> params = request.params() != null ? request.params() : Map.of();
         InvokeUseCase.Command command = new InvokeUseCase.Command(
                 request.functionId(),
                 request.accessKey(),
-                request.params()
+                objectMapper.writeValueAsBytes(params)
         );
 
-        return ResponseEntity.ok(invokeUseCase.invoke(command));
+        // [변경] 비동기 응답 (Servlet Async) - 실행 중에는 요청 스레드를 점유하지 않음
+        return invokeUseCase.invoke(command, idempotencyKey)
+                .thenApply(result -> ResponseEntity.ok(
+                        new InvokeResponse(new String(result.result(), StandardCharsets.UTF_8))
+                ));
     }
 
+    /**
+     * [추가] Raw Body 호출
+     * - 요청 바디(JSON)를 파싱하지 않고 그대로 함수 파라미터로 전달
+     * - 함수 결과 바이트를 감싸지 않고 그대로 응답 (JSON 이중 이스케이프 없음)
+     */
+    @PostMapping("/invoke/raw/{functionId}")
+    public CompletableFuture<ResponseEntity<byte[]>> invokeFunctionRaw(
+            @PathVariable UUID functionId,
+            @RequestHeader("X-Access-Key") String accessKey,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody(required = false) byte[] payload
+    ) {
+        InvokeUseCase.Command command = new InvokeUseCase.Command(
+                functionId,
+                accessKey,
+                (payload == null || payload.length == 0) ? EMPTY_PARAMS : payload
+        );
 
-}
\ No newline at end of file
+        return invokeUseCase.invoke(command, idempotencyKey)
+                .thenApply(result -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .body(result.result()));
+    }
+
+    /**
+     * [추가] 스트리밍 호출 (SSE)
+     * - 함수 출력/로그를 생성되는 즉시 전송 (전체 결과를 Invoker 힙에 모으지 않음)
+     * - 마지막 이벤트: result {success} 또는 error {message}
+     * - 클라이언트 연결이 끊기면 Agent 실행도 취소
+     */
+    @PostMapping(value = "/invoke/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter invokeFunctionStream(@RequestBody InvokeRequest request) throws JsonProcessingException {
+        Map<String, Object> params = request.params() != null ? request.params() : Map.of();
+        InvokeUseCase.Command command = new InvokeUseCase.Command(
+                request.functionId(),
+                request.accessKey(),
+                objectMapper.writeValueAsBytes(params)
+        );
+
+        // 실행 시간 제한은 Agent 호출 Deadline에 맡김
+        SseEmitter emitter = new SseEmitter(0L);
+
+        // 인증/컨테이너 확보 실패는 스트림 시작 전에 일반 에러 응답으로 처리됨
+        CompletableFuture<InvokeUseCase.Result> execution = invokeUseCase.invokeStream(command, new SseStreamHandler(emitter));
+
+        emitter.onError(e -> execution.cancel(true));
+        emitter.onTimeout(() -> execution.cancel(true));
+
+        execution.whenComplete((result, ex) -> {
+            try {
+                if (ex == null) {
+                    emitter.send(SseEmitter.event().name("result").data(Map.of("success", true), MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                    return;
+                }
+                Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                emitter.send(SseEmitter.event().name("error").data(Map.of("message", String.valueOf(cause.getMessage())), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (Exception e) {
+                // 클라이언트가 이미 끊긴 경우
+                log.debug("Failed to finish stream: {}", e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+}
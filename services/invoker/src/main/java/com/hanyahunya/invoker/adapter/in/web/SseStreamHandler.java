@@ -0,0 +1,64 @@
+package com.hanyahunya.invoker.adapter.in.web;
+
+import com.hanyahunya.invoker.application.port.in.InvokeUseCase;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * [추가] 스트리밍 실행 조각을 SSE 이벤트로 전송
+ * - event: output -> 함수 출력 (UTF-8 텍스트, 조각 경계에서 잘린 멀티바이트 문자는 다음 조각과 합쳐서 전송)
+ * - event: log    -> 로그 한 줄
+ * - data는 JSON 문자열
+ * - 전송 실패(클라이언트 연결 끊김)는 예외로 올려서 Agent 호출이 취소되도록 함
+ */
+class SseStreamHandler implements InvokeUseCase.StreamHandler {
+
+    private final SseEmitter emitter;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    // 이전 조각에서 디코딩하지 못한 바이트 (최대 3바이트)
+    private ByteBuffer pending = ByteBuffer.allocate(0);
+
+    SseStreamHandler(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void onOutput(byte[] chunk) {
+        ByteBuffer input = ByteBuffer.allocate(pending.remaining() + chunk.length);
+        input.put(pending).put(chunk).flip();
+
+        CharBuffer output = CharBuffer.allocate((int) (input.remaining() * (double) decoder.maxCharsPerByte()) + 1);
+        decoder.decode(input, output, false);
+        pending = input.slice();
+
+        output.flip();
+        if (output.hasRemaining()) {
+            send("output", output.toString());
+        }
+    }
+
+    @Override
+    public void onLog(String line) {
+        send("log", line);
+    }
+
+    private void send(String event, Object data) {
+        try {
+            // JSON 문자열로 전송 (데이터 안의 줄바꿈이 SSE 프레임을 깨지 않도록)
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.hanyahunya.invoker.adapter.in.web.dto;
+
+import java.util.UUID;
+
+public record AsyncInvokeResponse(
+        UUID requestId
+) {}
@@ -0,0 +1,8 @@
+package com.hanyahunya.invoker.adapter.in.web.dto;
+
+import java.util.List;
+
+public record BatchInvokeRequest(
+        List<InvokeRequest> items,
+        Integer parallelism // 함수별 동시 실행 수 (미지정 시 서버 최대값)
+) {}
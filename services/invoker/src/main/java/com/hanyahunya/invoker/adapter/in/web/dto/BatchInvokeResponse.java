@@ -0,0 +1,7 @@
+package com.hanyahunya.invoker.adapter.in.web.dto;
+
+import java.util.List;
+
+public record BatchInvokeResponse(
+        List<BatchItemResponse> results
+) {}
@@ -0,0 +1,8 @@
+package com.hanyahunya.invoker.adapter.in.web.dto;
+
+public record BatchItemResponse(
+        int index,
+        boolean success,
+        String result,
+        String errorMessage
+) {}
@@ -0,0 +1,5 @@
+package com.hanyahunya.invoker.adapter.in.web.dto;
+
+public record InvokeResponse(
+        String result
+) {}
@@ -0,0 +1,100 @@
+package com.hanyahunya.invoker.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hanyahunya.invoker.adapter.out.grpc.FunctionAuthGrpcAdapter;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthCachePort;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthPort;
+import com.hanyahunya.invoker.infra.config.AuthCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * [추가] Registry 인증 결과를 Invoker 로컬에 캐싱하는 어댑터
+ * - Key: (functionId, accessKey의 SHA-256) -> 원본 accessKey는 메모리에 보관하지 않음
+ * - 유효하지 않은 키도 짧은 TTL로 캐싱 (Negative Caching) -> 잘못된 키 반복 호출이 Registry까지 가지 않도록
+ * - 함수 변경 시 Redis Pub/Sub 이벤트로 즉시 무효화 (FunctionChangeListener)
+ */
+@Slf4j
+@Primary
+@Component
+public class FunctionAuthCacheAdapter implements FunctionAuthPort, FunctionAuthCachePort {
+
+    private final FunctionAuthGrpcAdapter delegate;
+    private final AsyncCache<CacheKey, Result> cache;
+
+    // gRPC 블로킹 호출은 캐시 내부 락이 아닌 가상 스레드에서 수행
+    private final ExecutorService loaderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FunctionAuthCacheAdapter(FunctionAuthGrpcAdapter delegate, AuthCacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(new ResultExpiry(properties.ttl().toNanos(), properties.negativeTtl().toNanos()))
+                .executor(loaderExecutor)
+                .buildAsync();
+    }
+
+    @Override
+    public Result authenticateFunction(UUID functionId, String accessKey) {
+        CacheKey key = new CacheKey(functionId, hash(accessKey));
+        try {
+            // 같은 키에 대한 동시 Miss는 하나의 Registry 호출로 합쳐짐 (실패 시 캐시에 남지 않음)
+            return cache.get(key, k -> delegate.authenticateFunction(functionId, accessKey)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void evict(UUID functionId) {
+        cache.synchronous().asMap().keySet().removeIf(key -> key.functionId().equals(functionId));
+    }
+
+    private String hash(String accessKey) {
+        if (accessKey == null) {
+            return "";
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(accessKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    private record CacheKey(UUID functionId, String accessKeyHash) {}
+
+    // 유효한 결과와 유효하지 않은 결과의 TTL을 다르게 적용
+    private record ResultExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<CacheKey, Result> {
+
+        @Override
+        public long expireAfterCreate(CacheKey key, Result value, long currentTime) {
+            return value.isValid() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, Result value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, Result value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.hanyahunya.invoker.adapter.out.cache;
+
+import com.hanyahunya.invoker.adapter.out.grpc.AgentHealthTracker;
+import com.hanyahunya.invoker.adapter.out.redis.ContainerRedisAdapter;
+import com.hanyahunya.invoker.adapter.out.redis.ContainerWaiterRegistry;
+import com.hanyahunya.invoker.application.port.out.ContainerPoolPort;
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import com.hanyahunya.invoker.infra.config.LocalPoolProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [추가] Invoker 로컬 Warm 컨테이너 임대 풀 (Redis 대기열 앞단)
+ * - 반납된 컨테이너를 짧은 시간 동안 로컬에 보관하고, 같은 함수의 다음 요청이 Redis 없이 바로 재사용
+ * - 함수별 LIFO (가장 최근에 쓴 컨테이너 우선 -> 나머지는 빨리 idle 처리되어 Redis로 반납됨)
+ * - idle 시간 초과 / 힙 압박 / 종료 시 Redis 대기열로 반납 (다른 Invoker도 쓸 수 있도록)
+ */
+@Slf4j
+@Primary
+@Component
+public class LocalContainerPoolAdapter implements ContainerPoolPort {
+
+    // [추가] collection usage를 지원하는 heap 풀 = old gen (eden/survivor는 미지원)
+    private static final List<MemoryPoolMXBean> OLD_GEN_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+            .toList();
+
+    private final ContainerRedisAdapter delegate;
+    private final ContainerWaiterRegistry waiterRegistry;
+    private final LocalPoolProperties properties;
+    private final AgentHealthTracker agentHealthTracker;
+
+    // Key: functionId, Value: 반납된 컨테이너 (head = 가장 최근 반납)
+    private final Map<UUID, ConcurrentLinkedDeque<LocalEntry>> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger totalCount = new AtomicInteger();
+
+    // 임대 중(실행 중)인 컨테이너의 마지막 GC Lease 갱신 시각 (반납 시 로컬 엔트리로 이어받음)
+    private final Map<ContainerInfo, Long> leaseRenewals = new ConcurrentHashMap<>();
+
+    public LocalContainerPoolAdapter(ContainerRedisAdapter delegate, ContainerWaiterRegistry waiterRegistry,
+                                     LocalPoolProperties properties, AgentHealthTracker agentHealthTracker) {
+        this.delegate = delegate;
+        this.waiterRegistry = waiterRegistry;
+        this.properties = properties;
+        this.agentHealthTracker = agentHealthTracker;
+    }
+
+    @Override
+    public Optional<ContainerInfo> popContainer(UUID functionId) {
+        ConcurrentLinkedDeque<LocalEntry> pool = pools.get(functionId);
+        LocalEntry entry = (pool != null) ? pollHealthy(pool) : null;
+
+        if (entry != null) {
+            // 로컬에서 계속 돌고 있는 컨테이너는 Redis를 거치지 않으므로 GC 만료를 주기적으로 연장
+            if (System.nanoTime() - entry.leaseRenewedAt() > properties.leaseRefreshInterval().toNanos()) {
+                delegate.extendLease(functionId, entry.containerInfo());
+                entry = entry.renewed();
+            }
+            leaseRenewals.put(entry.containerInfo(), entry.leaseRenewedAt());
+            return Optional.of(entry.containerInfo());
+        }
+
+        // Redis에서 꺼낸 컨테이너는 pop 스크립트에서 Lease가 연장됨
+        Optional<ContainerInfo> containerInfo = delegate.popContainer(functionId);
+        containerInfo.ifPresent(info -> leaseRenewals.put(info, System.nanoTime()));
+        return containerInfo;
+    }
+
+    // [추가] 장애 Agent의 컨테이너는 버리고 다음 컨테이너 확인 (Provisioner GC가 정리)
+    private LocalEntry pollHealthy(ConcurrentLinkedDeque<LocalEntry> pool) {
+        LocalEntry entry;
+        while ((entry = pool.pollFirst()) != null) {
+            totalCount.decrementAndGet();
+            if (!agentHealthTracker.isDown(entry.containerInfo().agentIp())) {
+                return entry;
+            }
+            log.debug("Discarding local container on down agent: {}", entry.containerInfo().agentIp());
+        }
+        return null;
+    }
+
+    @Override
+    public String requestContainerCreation(UUID functionId, String s3Key) {
+        return delegate.requestContainerCreation(functionId, s3Key);
+    }
+
+    @Override
+    public void cancelContainerCreation(String requestId) {
+        delegate.cancelContainerCreation(requestId);
+    }
+
+    @Override
+    public Optional<WaitedContainer> waitContainer(UUID functionId, String requestId) {
+        // [변경] 요청당 BLPOP 커넥션 대신 대기자 레지스트리에서 park
+        // 새로 생성된 컨테이너는 Provisioner가 GC에 등록한 시점이 Lease 시작
+        Optional<WaitedContainer> waited = waiterRegistry.await(functionId, requestId, ContainerRedisAdapter.CONTAINER_WAIT_TIMEOUT);
+        waited.ifPresent(result -> leaseRenewals.put(result.containerInfo(), System.nanoTime()));
+        return waited;
+    }
+
+    @Override
+    public void returnContainer(UUID functionId, ContainerInfo containerInfo) {
+        // 갱신 이력이 없으면(오래 실행되어 정리된 경우 등) 다음 로컬 pop 때 바로 Lease 연장
+        Long leaseRenewedAt = leaseRenewals.remove(containerInfo);
+        long renewedAt = (leaseRenewedAt != null)
+                ? leaseRenewedAt
+                : System.nanoTime() - properties.leaseRefreshInterval().toNanos() - 1;
+
+        // [추가] 같은 함수의 Cold Start 대기자가 있으면 바로 전달 (로컬 보관/Redis 모두 생략)
+        if (waiterRegistry.handOff(functionId, containerInfo)) {
+            return;
+        }
+
+        if (!properties.enabled() || !tryReserveSlot()) {
+            delegate.returnContainer(functionId, containerInfo);
+            return;
+        }
+
+        ConcurrentLinkedDeque<LocalEntry> pool = pools.computeIfAbsent(functionId, k -> new ConcurrentLinkedDeque<>());
+        // 함수별 상한 (size()는 O(n)이지만 상한이 작으므로 허용)
+        if (pool.size() >= properties.maxPerFunction()) {
+            totalCount.decrementAndGet();
+            delegate.returnContainer(functionId, containerInfo);
+            return;
+        }
+
+        LocalEntry entry = new LocalEntry(containerInfo, System.nanoTime(), renewedAt);
+        pool.offerFirst(entry);
+
+        // sweep이 빈 풀을 제거한 직후에 넣은 경우 -> 떨어져 나간 풀에 남지 않도록 바로 반납
+        if (pools.get(functionId) != pool && pool.remove(entry)) {
+            spill(functionId, entry);
+        }
+    }
+
+    @Override
+    public void evictContainer(UUID functionId, ContainerInfo containerInfo) {
+        leaseRenewals.remove(containerInfo);
+        delegate.evictContainer(functionId, containerInfo);
+    }
+
+    private boolean tryReserveSlot() {
+        while (true) {
+            int current = totalCount.get();
+            if (current >= properties.maxTotal()) {
+                return false;
+            }
+            if (totalCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // ==========================================
+    // Redis 반납 (Spill)
+    // ==========================================
+
+    @Scheduled(fixedDelay = 500)
+    public void sweep() {
+        // 반납되지 않은 컨테이너(실행 실패 등)의 갱신 이력 정리
+        long staleBefore = System.nanoTime() - properties.leaseRefreshInterval().toNanos() * 2;
+        leaseRenewals.values().removeIf(renewedAt -> renewedAt < staleBefore);
+
+        if (pools.isEmpty()) {
+            return;
+        }
+
+        if (isHeapUnderPressure()) {
+            log.warn("Heap pressure detected. Spilling all local containers to Redis.");
+            spillAll();
+            return;
+        }
+
+        long idleBefore = System.nanoTime() - properties.idleTimeout().toNanos();
+        pools.forEach((functionId, pool) -> {
+            // tail = 가장 오래 쉰 컨테이너
+            LocalEntry oldest;
+            while ((oldest = pool.peekLast()) != null && oldest.returnedAt() < idleBefore) {
+                // 동시에 pop 된 경우 제거 실패 -> 이미 다른 요청이 사용 중
+                if (pool.removeLastOccurrence(oldest)) {
+                    spill(functionId, oldest);
+                }
+            }
+            if (pool.isEmpty() && pools.remove(functionId, pool)) {
+                // 제거 직전에 반납된 엔트리가 있으면 반납
+                LocalEntry late;
+                while ((late = pool.pollLast()) != null) {
+                    spill(functionId, late);
+                }
+            }
+        });
+    }
+
+    // 종료 시 로컬 보관분을 모두 반납 (다른 Invoker가 이어서 사용)
+    @PreDestroy
+    public void spillAll() {
+        pools.forEach((functionId, pool) -> {
+            LocalEntry entry;
+            while ((entry = pool.pollLast()) != null) {
+                spill(functionId, entry);
+            }
+        });
+    }
+
+    private void spill(UUID functionId, LocalEntry entry) {
+        totalCount.decrementAndGet();
+        delegate.returnContainer(functionId, entry.containerInfo());
+    }
+
+    // [변경] totalMemory - freeMemory는 수거 전 garbage까지 포함 -> 평상시에도 넘겨 전체 반납이 반복됨
+    // old gen 풀의 마지막 GC 직후 사용량(collection usage)으로 판단
+    private boolean isHeapUnderPressure() {
+        long used = 0;
+        long max = 0;
+        for (MemoryPoolMXBean pool : OLD_GEN_POOLS) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage == null || usage.getMax() < 0) {
+                continue;
+            }
+            used += usage.getUsed();
+            max += usage.getMax();
+        }
+        // 아직 GC 이력이 없거나 측정 불가 -> 압박 아님 (idle timeout 정리가 풀 크기를 제한)
+        return max > 0 && used > max * properties.heapSpillRatio();
+    }
+
+    private record LocalEntry(ContainerInfo containerInfo, long returnedAt, long leaseRenewedAt) {
+        LocalEntry renewed() {
+            return new LocalEntry(containerInfo, returnedAt, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.hanyahunya.invoker.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hanyahunya.invoker.application.port.out.ResultCachePort;
+import com.hanyahunya.invoker.infra.config.ResultCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * [추가] 함수 결과 캐시 (로컬 LRU -> Redis 2단계)
+ * - 로컬: 크기 기준 LRU + 엔트리별 TTL (min(함수 설정, localTtl))
+ * - Redis: invoke:cache:{functionId}:{hash}, 함수 설정 TTL (다른 Invoker와 공유)
+ * - Redis 장애 시 캐시 미적중으로 처리 (실행은 계속)
+ */
+@Slf4j
+@Component
+public class ResultCacheAdapter implements ResultCachePort {
+
+    private static final String KEY_PREFIX = "invoke:cache:";
+
+    private final ResultCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 맵 키를 정렬해서 직렬화 -> 키 순서만 다른 JSON도 같은 바이트
+    // [변경] 숫자는 원래 자릿수 그대로 (double/long으로 읽으면 정밀도가 다른 입력이 같은 키로 합쳐짐)
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+            .build();
+
+    private final Cache<String, LocalEntry> local;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    private record LocalEntry(byte[] result, long ttlNanos) {}
+
+    public ResultCacheAdapter(ResultCacheProperties properties, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(properties.localMaxSize().toBytes())
+                .weigher((String key, LocalEntry entry) -> key.length() + entry.result().length)
+                .expireAfter(new Expiry<String, LocalEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        this.localHits = lookupCounter(meterRegistry, "hit", "local");
+        this.redisHits = lookupCounter(meterRegistry, "hit", "redis");
+        this.misses = lookupCounter(meterRegistry, "miss", "none");
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("invoker.result_cache.lookup")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String keyOf(UUID functionId, byte[] payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((functionId + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(canonicalize(payload));
+            return KEY_PREFIX + functionId + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // JSON이 아니면 원본 바이트 그대로 사용
+    private byte[] canonicalize(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            return new byte[0];
+        }
+        try {
+            Object value = canonicalMapper.readValue(payload, Object.class);
+            return canonicalMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            return payload;
+        }
+    }
+
+    @Override
+    public Optional<byte[]> find(String key, Duration ttl) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+
+        LocalEntry entry = local.getIfPresent(key);
+        if (entry != null) {
+            localHits.increment();
+            return Optional.of(entry.result());
+        }
+
+        if (properties.redisEnabled()) {
+            byte[] result = redisGet(key);
+            if (result != null) {
+                redisHits.increment();
+                putLocal(key, result, ttl);
+                return Optional.of(result);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void store(String key, byte[] result, Duration ttl) {
+        if (!properties.enabled() || result == null || result.length > properties.maxResultSize().toBytes()) {
+            return;
+        }
+
+        putLocal(key, result, ttl);
+        if (properties.redisEnabled()) {
+            redisSet(key, result, ttl);
+        }
+    }
+
+    private void putLocal(String key, byte[] result, Duration ttl) {
+        Duration localTtl = ttl.compareTo(properties.localTtl()) < 0 ? ttl : properties.localTtl();
+        local.put(key, new LocalEntry(result, localTtl.toNanos()));
+    }
+
+    private byte[] redisGet(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            return stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(rawKey));
+        } catch (Exception e) {
+            log.warn("Result cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String key, byte[] result, Duration ttl) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(rawKey, result, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            log.warn("Result cache store failed: {}", e.getMessage());
+        }
+    }
+}
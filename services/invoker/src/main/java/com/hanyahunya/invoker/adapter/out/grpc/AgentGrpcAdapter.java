@@ -1,61 +1,258 @@
 package com.hanyahunya.invoker.adapter.out.grpc;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hanyahunya.grpc.AgentServiceGrpc;
+import com.hanyahunya.grpc.ExecuteChunk;
 import com.hanyahunya.grpc.ExecuteRequest;
 import com.hanyahunya.grpc.ExecuteResponse;
 import com.hanyahunya.invoker.application.port.out.AgentInvokePort;
+import com.hanyahunya.invoker.domain.model.FailureType;
+import com.hanyahunya.invoker.infra.config.AgentProperties;
 import com.hanyahunya.invoker.infra.grpc.AgentChannelManager;
 import io.grpc.ManagedChannel;
-import io.grpc.StatusRuntimeException;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AgentGrpcAdapter implements AgentInvokePort {
 
-    private final ObjectMapper objectMapper;
     private final AgentChannelManager channelManager;
+    private final AgentProperties agentProperties;
+    private final AgentHealthTracker agentHealthTracker;
 
+    // [추가] 함수 제한 시간 외에 Agent <-> 컨테이너 통신, 로그 업로드 등에 필요한 여유 시간
+    private static final Duration DEADLINE_GRACE = Duration.ofSeconds(5);
+
+    @Override
+    public CompletableFuture<AgentResponse> executeFunction(String agentIp, String sockPath, byte[] payload, UUID requestId, Duration timeout) {
+        return call(agentIp, payload, timeout, (stub, future) -> stub.execute(
+                buildRequest(sockPath, payload, requestId),
+                new ExecuteResponseObserver(future, requestId, agentIp)
+        ));
+    }
+
+    // [추가] 스트리밍 실행
     @Override
-    public AgentResponse executeFunction(String agentIp, String sockPath, Map<String, Object> params, UUID requestId) {
-        ManagedChannel channel = channelManager.getChannel(agentIp);
+    public CompletableFuture<AgentResponse> executeFunctionStream(String agentIp, String sockPath, byte[] payload, UUID requestId, Duration timeout, StreamListener listener) {
+        return call(agentIp, payload, timeout, (stub, future) -> stub.executeStream(
+                buildRequest(sockPath, payload, requestId),
+                new ExecuteStreamObserver(future, requestId, agentIp, listener)
+        ));
+    }
+
+    // [변경] 채널 풀에서 채널을 골라 호출하고, 호출이 끝나면(성공/실패/취소 모두) 채널 반납
+    private CompletableFuture<AgentResponse> call(String agentIp, byte[] payload, Duration timeout,
+                                                  BiConsumer<AgentServiceGrpc.AgentServiceStub, CompletableFuture<AgentResponse>> rpc) {
+        if (agentHealthTracker.isDown(agentIp)) {
+            return agentDown(agentIp);
+        }
+
+        CompletableFuture<AgentResponse> future = new CompletableFuture<>();
+        trackHealth(future, agentIp);
+
+        AgentChannelManager.PooledChannel channel = channelManager.acquire(agentIp);
+        future.whenComplete((response, ex) -> channel.release());
 
         try {
-            AgentServiceGrpc.AgentServiceBlockingStub stub = AgentServiceGrpc.newBlockingStub(channel);
-            String payloadJson = objectMapper.writeValueAsString(params);
+            rpc.accept(stub(channel.channel(), payload, timeout), future);
+        } catch (RuntimeException e) {
+            future.complete(AgentResponse.failure("Agent call failed: " + e.getMessage(), FailureType.TRANSPORT));
+        }
+        return future;
+    }
+
+    // [추가] 차단된 Agent는 호출하지 않고 바로 실패 (통신 실패로 분류 -> 컨테이너도 곧 제거됨)
+    private static CompletableFuture<AgentResponse> agentDown(String agentIp) {
+        return CompletableFuture.completedFuture(AgentResponse.failure("Agent is down: " + agentIp, FailureType.TRANSPORT));
+    }
+
+    // [추가] 통신 실패만 Agent 장애로 집계 (사용자 코드 에러 / 타임아웃은 Agent 문제가 아님)
+    private void trackHealth(CompletableFuture<AgentResponse> future, String agentIp) {
+        future.whenComplete((response, ex) -> {
+            if (response == null) {
+                return;
+            }
+            switch (response.failureType()) {
+                case NONE, FUNCTION_ERROR -> agentHealthTracker.recordSuccess(agentIp);
+                case TRANSPORT -> agentHealthTracker.recordFailure(agentIp);
+                default -> { }
+            }
+        });
+    }
+
+    private ExecuteRequest buildRequest(String sockPath, byte[] payload, UUID requestId) {
+        ExecuteRequest.Builder builder = ExecuteRequest.newBuilder()
+                .setSockPath(sockPath)
+                .setRequestId(requestId.toString());
+
+        if (agentProperties.payloadBytesEnabled()) {
+            // [변경] 요청 바이트를 복사 없이 그대로 전달 (payload는 호출 이후 변경되지 않음)
+            builder.setInputPayloadRaw(UnsafeByteOperations.unsafeWrap(payload));
+        } else {
+            // 구버전 Agent는 input_payload(string)만 읽음 -> 업그레이드 전까지는 기존 필드로 전송
+            builder.setInputPayload(new String(payload, StandardCharsets.UTF_8));
+        }
+        return builder.build();
+    }
+
+    private AgentServiceGrpc.AgentServiceStub stub(ManagedChannel channel, byte[] payload, Duration timeout) {
+        // [변경] Blocking Stub -> Async Stub + Deadline (행 걸린 컨테이너가 스레드/커넥션을 무한 점유하지 않도록)
+        long deadlineMillis = timeout.plus(DEADLINE_GRACE).toMillis();
+        AgentServiceGrpc.AgentServiceStub stub = AgentServiceGrpc.newStub(channel)
+                .withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+
+        // [추가] 큰 페이로드만 압축 (작은 요청은 압축 비용이 더 큼)
+        if (agentProperties.compressionEnabled() && payload.length > agentProperties.compressionThreshold().toBytes()) {
+            stub = stub.withCompression("gzip");
+        }
+        return stub;
+    }
+
+    private static AgentResponse toAgentResponse(ExecuteResponse response) {
+        // 구버전 Agent는 result(string)만 채우므로 폴백
+        byte[] result = response.getResultRaw().isEmpty()
+                ? response.getResult().getBytes(StandardCharsets.UTF_8)
+                : response.getResultRaw().toByteArray();
 
-            ExecuteRequest request = ExecuteRequest.newBuilder()
-                    .setSockPath(sockPath)
-                    .setInputPayload(payloadJson)
-                    .setRequestId(requestId.toString())
-                    .build();
+        return new AgentResponse(
+                result,
+                response.getSuccess(),
+                response.getMemoryUsage(),
+                response.getErrorMessage(),
+                response.getDurationMs(),
+                response.getLogS3Key(),
+                // Agent가 응답을 돌려줬다면 실패는 사용자 코드 에러 (컨테이너는 정상)
+                response.getSuccess() ? FailureType.NONE : FailureType.FUNCTION_ERROR
+        );
+    }
+
+    // 에러 발생 시 duration 0, logKey null 등으로 처리
+    private static AgentResponse errorResponse(Status status) {
+        return switch (status.getCode()) {
+            case DEADLINE_EXCEEDED -> AgentResponse.failure("Function execution timed out", FailureType.TIMEOUT);
+            case CANCELLED -> AgentResponse.failure("Execution cancelled: " + status, FailureType.CANCELLED);
+            default -> AgentResponse.failure("Agent Network Error: " + status, FailureType.TRANSPORT);
+        };
+    }
+
+    // Future가 취소되면 gRPC Call을 cancel -> Agent 측 Context 취소로 전파
+    private static void cancelOnFutureCancel(CompletableFuture<AgentResponse> future, ClientCallStreamObserver<ExecuteRequest> requestStream, UUID requestId) {
+        future.whenComplete((response, ex) -> {
+            if (ex instanceof CancellationException) {
+                log.debug("Execution cancelled by caller [ReqId: {}]", requestId);
+                requestStream.cancel("Cancelled by invoker", null);
+            }
+        });
+    }
+
+    /**
+     * [추가] gRPC 응답을 CompletableFuture로 연결
+     * - Future가 취소되면 gRPC Call을 cancel -> Agent 측 Context 취소로 전파
+     */
+    @RequiredArgsConstructor
+    private static class ExecuteResponseObserver implements ClientResponseObserver<ExecuteRequest, ExecuteResponse> {
+
+        private final CompletableFuture<AgentResponse> future;
+        private final UUID requestId;
+        private final String agentIp;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ExecuteRequest> requestStream) {
+            cancelOnFutureCancel(future, requestStream, requestId);
+        }
+
+        @Override
+        public void onNext(ExecuteResponse response) {
+            future.complete(toAgentResponse(response));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            Status status = Status.fromThrowable(t);
+            if (status.getCode() == Status.Code.CANCELLED && future.isCancelled()) {
+                return;
+            }
 
-            ExecuteResponse response = stub.execute(request);
+            log.error("gRPC Error [ReqId: {}, Agent: {}]: {}", requestId, agentIp, status);
+            future.complete(errorResponse(status));
+        }
+
+        @Override
+        public void onCompleted() {
+            // Unary 호출이므로 onNext 없이 끝나는 경우만 방어
+            future.complete(AgentResponse.failure("Agent returned no response", FailureType.TRANSPORT));
+        }
+    }
+
+    /**
+     * [추가] Server Streaming 응답 처리
+     * - 수동 Flow Control: listener 처리(클라이언트 전송)가 끝난 뒤에 다음 조각을 요청 -> 느린 클라이언트 때문에 힙에 쌓이지 않음
+     * - listener 실패(클라이언트 연결 끊김 등) 시 gRPC Call 취소
+     */
+    @RequiredArgsConstructor
+    private static class ExecuteStreamObserver implements ClientResponseObserver<ExecuteRequest, ExecuteChunk> {
+
+        private final CompletableFuture<AgentResponse> future;
+        private final UUID requestId;
+        private final String agentIp;
+        private final StreamListener listener;
 
-            return new AgentResponse(
-                    response.getResult(),
-                    response.getSuccess(),
-                    response.getMemoryUsage(),
-                    response.getErrorMessage(),
-                    response.getDurationMs(),
-                    response.getLogS3Key()
-            );
+        private ClientCallStreamObserver<ExecuteRequest> requestStream;
 
-        } catch (StatusRuntimeException e) {
-            log.error("gRPC Error [ReqId: {}, Agent: {}]: {}", requestId, agentIp, e.getStatus());
-            // 에러 발생 시 duration 0, logKey null 등으로 처리
-            return new AgentResponse(null, false, 0, "Agent Network Error: " + e.getMessage(), 0, null);
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ExecuteRequest> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(1);
+            cancelOnFutureCancel(future, requestStream, requestId);
+        }
+
+        @Override
+        public void onNext(ExecuteChunk chunk) {
+            try {
+                switch (chunk.getChunkCase()) {
+                    case OUTPUT -> listener.onOutput(chunk.getOutput().toByteArray());
+                    case LOG_LINE -> listener.onLog(chunk.getLogLine());
+                    case RESULT -> future.complete(toAgentResponse(chunk.getResult()));
+                    default -> log.warn("Unknown chunk from agent [ReqId: {}]", requestId);
+                }
+            } catch (Exception e) {
+                log.warn("Stream listener failed [ReqId: {}]: {}", requestId, e.getMessage());
+                requestStream.cancel("Stream consumer failed", e);
+                future.completeExceptionally(e);
+                return;
+            }
+            requestStream.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            Status status = Status.fromThrowable(t);
+            if (status.getCode() == Status.Code.CANCELLED && future.isDone()) {
+                return;
+            }
+
+            log.error("gRPC Stream Error [ReqId: {}, Agent: {}]: {}", requestId, agentIp, status);
+            future.complete(errorResponse(status));
+        }
 
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Parameter serialization failed", e);
+        @Override
+        public void onCompleted() {
+            // result 메시지 없이 스트림이 끝난 경우
+            future.complete(AgentResponse.failure("Agent stream ended without result", FailureType.TRANSPORT));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package com.hanyahunya.invoker.adapter.out.grpc;
+
+import com.hanyahunya.invoker.adapter.out.redis.AgentHealthRedisAdapter;
+import com.hanyahunya.invoker.infra.config.AgentHealthProperties;
+import com.hanyahunya.invoker.infra.grpc.AgentChannelManager;
+import io.grpc.ConnectivityState;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [추가] Agent(호스트) 단위 장애 감지 (Circuit Breaker)
+ * - 열림 조건: 통신 실패 failureThreshold 회 연속, 또는 gRPC 채널이 TRANSIENT_FAILURE로 전환
+ * - 열리면 downTtl 동안 차단하고 Redis로 전파 -> 모든 Invoker가 이 Agent의 컨테이너를 건너뜀
+ * - 1초마다 채널 연결을 시도해서 READY가 되면 차단 해제, 계속 실패하면 차단 연장
+ * - [추가] forgetAfter 넘게 차단된 Agent(제거된 호스트)와 그동안 호출이 없던 Agent는 상태를 지우고 더 이상 프로브하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentHealthTracker {
+
+    private final AgentChannelManager channelManager;
+    private final AgentHealthRedisAdapter agentHealthRedisAdapter;
+    private final AgentHealthProperties properties;
+
+    // Key: agentIp
+    private final Map<String, AgentState> agents = new ConcurrentHashMap<>();
+
+    // Redis 전파는 gRPC 콜백 스레드가 아닌 가상 스레드에서 수행
+    private final ExecutorService publishExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 채널이 TRANSIENT_FAILURE로 바뀌면 요청 실패를 기다리지 않고 바로 차단
+    @PostConstruct
+    public void watchChannels() {
+        channelManager.addStateListener((agentIp, state) -> {
+            if (state == ConnectivityState.TRANSIENT_FAILURE) {
+                open(agentIp, state(agentIp), "channel TRANSIENT_FAILURE");
+            }
+        });
+    }
+
+    public boolean isDown(String agentIp) {
+        AgentState state = agents.get(agentIp);
+        return state != null && state.isDown(System.nanoTime());
+    }
+
+    public void recordSuccess(String agentIp) {
+        AgentState state = state(agentIp);
+        state.lastSeenAt = System.nanoTime();
+        state.consecutiveFailures.set(0);
+    }
+
+    public void recordFailure(String agentIp) {
+        AgentState state = state(agentIp);
+        state.lastSeenAt = System.nanoTime();
+        if (state.consecutiveFailures.incrementAndGet() >= properties.failureThreshold()) {
+            open(agentIp, state, "consecutive failures");
+        }
+    }
+
+    // 다른 Invoker가 감지한 장애 / 복구
+    public void onRemoteDown(String agentIp, Duration remaining) {
+        state(agentIp).markDown(System.nanoTime() + remaining.toNanos());
+    }
+
+    public void onRemoteUp(String agentIp) {
+        AgentState state = agents.get(agentIp);
+        if (state != null) {
+            state.markUp();
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void probe() {
+        long ttlNanos = properties.downTtl().toNanos();
+        long forgetNanos = properties.forgetAfter().toNanos();
+        agents.forEach((agentIp, state) -> {
+            long now = System.nanoTime();
+            if (!state.isDown(now)) {
+                // [추가] 오래 호출이 없는 Agent는 상태를 들고 있을 필요 없음
+                if (now - state.lastSeenAt > forgetNanos) {
+                    agents.remove(agentIp, state);
+                }
+                return;
+            }
+            // [추가] 너무 오래 차단된 Agent는 제거된 호스트로 보고 잊음
+            // - 프로브를 계속하면 정리된 채널 풀을 다시 만들게 됨 (아직 살아 있으면 다음 호출 실패로 다시 차단됨)
+            if (state.downFor(now) > forgetNanos) {
+                log.info("Forgetting Agent unhealthy for over {} [{}]", properties.forgetAfter(), agentIp);
+                agents.remove(agentIp, state);
+                return;
+            }
+            // getState(true): IDLE이면 연결을 시도함
+            ConnectivityState channelState = channelManager.getState(agentIp, true);
+            if (channelState == ConnectivityState.READY) {
+                log.info("Agent recovered [{}]", agentIp);
+                state.markUp();
+                // 나머지 채널도 Backoff 대기 없이 바로 재연결
+                channelManager.resetConnectBackoff(agentIp);
+                publishExecutor.execute(() -> agentHealthRedisAdapter.markUp(agentIp));
+            } else if (channelState == ConnectivityState.TRANSIENT_FAILURE && state.remaining(now) < ttlNanos / 2) {
+                // 여전히 연결 불가 -> 차단 연장
+                state.markDown(now + ttlNanos);
+                publishExecutor.execute(() -> agentHealthRedisAdapter.markDown(agentIp, properties.downTtl()));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publishExecutor.shutdown();
+    }
+
+    private void open(String agentIp, AgentState state, String reason) {
+        // 이미 열려 있으면 다시 전파하지 않음
+        if (!state.tryOpen(System.nanoTime(), properties.downTtl().toNanos())) {
+            return;
+        }
+        log.warn("Agent marked DOWN [{}]: {}", agentIp, reason);
+        publishExecutor.execute(() -> agentHealthRedisAdapter.markDown(agentIp, properties.downTtl()));
+    }
+
+    private AgentState state(String agentIp) {
+        AgentState state = agents.get(agentIp);
+        if (state != null) {
+            return state;
+        }
+        return agents.computeIfAbsent(agentIp, k -> new AgentState());
+    }
+
+    private static class AgentState {
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        // 차단 만료 시각 (nanoTime), 0 = 정상
+        private final AtomicLong downUntil = new AtomicLong();
+        // [추가] 차단이 시작된 시각 (nanoTime), 0 = 정상 (차단 연장 시에는 유지)
+        private final AtomicLong downSince = new AtomicLong();
+        // [추가] 마지막 호출 결과 기록 시각 (nanoTime)
+        private volatile long lastSeenAt = System.nanoTime();
+
+        boolean isDown(long now) {
+            return remaining(now) > 0;
+        }
+
+        long remaining(long now) {
+            long until = downUntil.get();
+            return (until == 0) ? 0 : until - now;
+        }
+
+        long downFor(long now) {
+            long since = downSince.get();
+            return (since == 0) ? 0 : now - since;
+        }
+
+        // 닫혀 있을 때만 열기 (처음 연 쪽만 true)
+        boolean tryOpen(long now, long ttlNanos) {
+            long until = downUntil.get();
+            if (until != 0 && until - now > 0) {
+                return false;
+            }
+            if (!downUntil.compareAndSet(until, now + ttlNanos)) {
+                return false;
+            }
+            downSince.compareAndSet(0, now);
+            return true;
+        }
+
+        void markDown(long until) {
+            downUntil.accumulateAndGet(until, (current, next) -> (current == 0 || next - current > 0) ? next : current);
+            downSince.compareAndSet(0, System.nanoTime());
+        }
+
+        void markUp() {
+            downUntil.set(0);
+            downSince.set(0);
+            consecutiveFailures.set(0);
+        }
+    }
+}
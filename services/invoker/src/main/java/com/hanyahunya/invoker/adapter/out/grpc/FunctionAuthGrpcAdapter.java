@@ -29,7 +29,10 @@ public class FunctionAuthGrpcAdapter implements FunctionAuthPort {
         }
         return new Result(
                 response.getIsValid(),
-                response.getS3Key()
+                response.getS3Key(),
+                response.getTimeoutSeconds(),
+                response.getOwnerId().isEmpty() ? null : UUID.fromString(response.getOwnerId()),
+                response.getResultCacheTtlSeconds()
                 );
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.hanyahunya.invoker.adapter.out.limiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanyahunya.invoker.adapter.out.redis.TokenBucketRedisAdapter;
+import com.hanyahunya.invoker.application.port.out.AdmissionControlPort;
+import com.hanyahunya.invoker.infra.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [추가] 함수별 / 소유자(테넌트)별 동시 실행 제한
+ * - 키마다 Semaphore 하나 (여유가 있으면 CAS 한 번으로 획득, 락 없음)
+ * - 한도에 걸리면 queue-timeout 동안만 대기 후 거절 -> 컨테이너/Cold Start 요청 전에 429로 끝냄
+ * - 사용 중인 허가가 없는 Semaphore는 GC 대상 (weakValues) -> 함수/테넌트 수만큼 쌓이지 않음
+ * - 옵션: Redis 토큰 버킷으로 초당 실행 수를 클러스터 전체에서 공유
+ */
+@Slf4j
+@Component
+public class AdmissionControlAdapter implements AdmissionControlPort {
+
+    private static final Permit UNLIMITED = () -> {};
+
+    private final AdmissionProperties properties;
+    private final TokenBucketRedisAdapter tokenBucket;
+
+    private final Cache<UUID, Semaphore> functionLimiters = Caffeine.newBuilder().weakValues().build();
+    private final Cache<UUID, Semaphore> ownerLimiters = Caffeine.newBuilder().weakValues().build();
+
+    private final Counter functionRejected;
+    private final Counter ownerRejected;
+    private final Counter clusterRejected;
+
+    public AdmissionControlAdapter(AdmissionProperties properties, TokenBucketRedisAdapter tokenBucket, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokenBucket = tokenBucket;
+        this.functionRejected = rejectedCounter(meterRegistry, "function");
+        this.ownerRejected = rejectedCounter(meterRegistry, "owner");
+        this.clusterRejected = rejectedCounter(meterRegistry, "cluster");
+    }
+
+    @Override
+    public Optional<Permit> tryAcquire(UUID functionId, UUID ownerId) {
+        if (!properties.enabled()) {
+            return Optional.of(UNLIMITED);
+        }
+
+        // [변경] 1. 로컬 동시 실행 한도 먼저 (두 한도를 합쳐서 queue-timeout 안에 얻어야 함)
+        // - 거절되면 그대로 반납할 수 있는 것부터 확보 -> 클러스터 토큰은 마지막에 소비
+        long deadline = System.nanoTime() + properties.queueTimeout().toNanos();
+
+        Semaphore functionLimiter = functionLimiters.get(functionId,
+                k -> new Semaphore(properties.maxInFlightPerFunction()));
+        if (!acquire(functionLimiter, deadline)) {
+            functionRejected.increment();
+            return Optional.empty();
+        }
+
+        // 구버전 Registry는 소유자를 내려주지 않음 -> 함수 한도만 적용
+        Semaphore ownerLimiter = null;
+        if (ownerId != null) {
+            ownerLimiter = ownerLimiters.get(ownerId,
+                    k -> new Semaphore(properties.maxInFlightPerOwner()));
+            if (!acquire(ownerLimiter, deadline)) {
+                functionLimiter.release();
+                ownerRejected.increment();
+                return Optional.empty();
+            }
+        }
+
+        SemaphorePermit permit = new SemaphorePermit(functionLimiter, ownerLimiter);
+
+        // 2. 클러스터 공용 초당 한도 (함수 -> 소유자 순)
+        if (properties.cluster().enabled() && !consumeClusterTokens(functionId, ownerId)) {
+            permit.release();
+            clusterRejected.increment();
+            return Optional.empty();
+        }
+
+        return Optional.of(permit);
+    }
+
+    // [변경] 소유자 토큰이 없으면 이미 가져간 함수 토큰은 되돌림
+    private boolean consumeClusterTokens(UUID functionId, UUID ownerId) {
+        String functionBucket = "func:" + functionId;
+        if (!tokenBucket.tryConsume(functionBucket)) {
+            return false;
+        }
+        if (ownerId != null && !tokenBucket.tryConsume("owner:" + ownerId)) {
+            tokenBucket.refund(functionBucket);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean acquire(Semaphore semaphore, long deadline) {
+        // 여유가 있으면 대기 없이 바로 획득
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        try {
+            return semaphore.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("invoker.admission.rejected")
+                .description("Invocations rejected by admission control")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    // Permit이 Semaphore를 참조하는 동안에는 weakValues 캐시에서 제거되지 않음
+    private static class SemaphorePermit implements Permit {
+        private final Semaphore functionLimiter;
+        private final Semaphore ownerLimiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SemaphorePermit(Semaphore functionLimiter, Semaphore ownerLimiter) {
+            this.functionLimiter = functionLimiter;
+            this.ownerLimiter = ownerLimiter;
+        }
+
+        @Override
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            functionLimiter.release();
+            if (ownerLimiter != null) {
+                ownerLimiter.release();
+            }
+        }
+    }
+}
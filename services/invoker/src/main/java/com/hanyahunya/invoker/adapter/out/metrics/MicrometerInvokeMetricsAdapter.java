@@ -0,0 +1,83 @@
+package com.hanyahunya.invoker.adapter.out.metrics;
+
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort;
+import com.hanyahunya.invoker.domain.model.ExecutionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [추가] 호출 구간별 Timer (invoker.invoke.phase{phase, execution_type})
+ * - p50/p99는 인스턴스별로 바로 확인, Prometheus에서는 Histogram 버킷으로 전체 집계
+ */
+@Component
+public class MicrometerInvokeMetricsAdapter implements InvokeMetricsPort {
+
+    private final MeterRegistry meterRegistry;
+
+    // 태그 조합별 Timer (조합 수가 작으므로 한 번 만들고 재사용)
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Counter prewarmRequestedCounter;
+    private final Map<ForecastOutcome, Counter> forecastCounters = new EnumMap<>(ForecastOutcome.class);
+    private final Map<IdempotencyOutcome, Counter> idempotencyCounters = new EnumMap<>(IdempotencyOutcome.class);
+
+    public MicrometerInvokeMetricsAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.prewarmRequestedCounter = Counter.builder("invoker.prewarm.requested")
+                .description("Containers requested ahead of predicted demand")
+                .register(meterRegistry);
+        for (ForecastOutcome outcome : ForecastOutcome.values()) {
+            forecastCounters.put(outcome, Counter.builder("invoker.prewarm.forecast")
+                    .description("Forecast outcomes evaluated against actual arrivals")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        for (IdempotencyOutcome outcome : IdempotencyOutcome.values()) {
+            idempotencyCounters.put(outcome, Counter.builder("invoker.idempotency")
+                    .description("Invocations carrying an Idempotency-Key by outcome")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void recordPhase(Phase phase, ExecutionType executionType, long durationNanos) {
+        timers.computeIfAbsent(new TimerKey(phase, executionType), this::createTimer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPrewarmRequested(int containers) {
+        prewarmRequestedCounter.increment(containers);
+    }
+
+    @Override
+    public void recordForecast(ForecastOutcome outcome) {
+        forecastCounters.get(outcome).increment();
+    }
+
+    @Override
+    public void recordIdempotency(IdempotencyOutcome outcome) {
+        idempotencyCounters.get(outcome).increment();
+    }
+
+    private Timer createTimer(TimerKey key) {
+        return Timer.builder("invoker.invoke.phase")
+                .description("Invoke hot path latency by phase")
+                .tag("phase", key.phase().name().toLowerCase(Locale.ROOT))
+                .tag("execution_type", key.executionType().name())
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Phase phase, ExecutionType executionType) {}
+}
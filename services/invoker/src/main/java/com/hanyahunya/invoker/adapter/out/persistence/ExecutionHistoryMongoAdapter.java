@@ -0,0 +1,53 @@
+package com.hanyahunya.invoker.adapter.out.persistence;
+
+import com.hanyahunya.invoker.application.port.out.ExecutionHistoryPort;
+import com.hanyahunya.invoker.domain.model.ExecutionLog;
+import com.hanyahunya.invoker.domain.model.ExecutionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * [추가] 실행 로그(execution_logs) 구간 집계 (Pre-warm 예측용)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutionHistoryMongoAdapter implements ExecutionHistoryPort {
+
+    private static final List<String> COLD_TYPES = List.of(ExecutionType.COLD.name(), ExecutionType.STOLEN.name());
+
+    private final MongoTemplate mongoTemplate;
+
+    private record ArrivalRow(@Id UUID functionId, long count, long coldCount, double avgDurationMs) {}
+
+    @Override
+    public List<ArrivalStats> countArrivals(LocalDateTime from, LocalDateTime to) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                // 캐시 응답은 컨테이너를 쓰지 않으므로 제외
+                Aggregation.match(Criteria.where("requestStartTime").gte(from).lt(to)
+                        .and("executionType").ne(ExecutionType.CACHED.name())),
+                Aggregation.group("functionId")
+                        .count().as("count")
+                        .sum(ConditionalOperators
+                                .when(ArrayOperators.In.arrayOf(COLD_TYPES).containsValue("$executionType"))
+                                .then(1)
+                                .otherwise(0)).as("coldCount")
+                        .avg("durationMs").as("avgDurationMs")
+        );
+
+        return mongoTemplate.aggregate(aggregation, ExecutionLog.class, ArrivalRow.class)
+                .getMappedResults()
+                .stream()
+                .map(row -> new ArrivalStats(row.functionId(), row.count(), row.coldCount(), row.avgDurationMs()))
+                .toList();
+    }
+}
@@ -1,19 +1,288 @@
 package com.hanyahunya.invoker.adapter.out.persistence;
 
-import com.hanyahunya.invoker.adapter.out.persistence.repository.ExecutionLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.invoker.application.port.out.ExecutionLogPort;
 import com.hanyahunya.invoker.domain.model.ExecutionLog;
-import lombok.RequiredArgsConstructor;
+import com.hanyahunya.invoker.infra.config.ExecutionLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [변경] 실행 로그 배치 저장 (로그 1건당 save 1회 -> 대기열 + insertMany)
+ * - 고정 크기 대기열에 적재하고, 전용 스레드가 batchSize 또는 flushInterval 단위로 모아서 Unordered Bulk Insert
+ * - MongoDB가 느려져도 힙에 쌓이는 로그는 queueCapacity로 제한되며, 초과분은 OverflowPolicy에 따라 처리
+ * - [변경] saveLog는 호출 스레드를 무한정 막지 않음 (BLOCK도 blockTimeout까지만 대기 후 버림)
+ * - [추가] offerLog는 대기/파일 I/O 없이 끝나는 경로만 처리 (gRPC 콜백 스레드 등 막히면 안 되는 호출자용)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class ExecutionLogPersistenceAdapter implements ExecutionLogPort {
 
-    private final ExecutionLogRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutionLogProperties properties;
+
+    private final BlockingQueue<ExecutionLog> queue;
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+
+    // Spill 파일 쓰기/재적재 동시 접근 방지 (가상 스레드 pinning 방지를 위해 synchronized 대신 사용)
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public ExecutionLogPersistenceAdapter(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                                          ExecutionLogProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("invoker.execution_log.queue.depth", queue, BlockingQueue::size)
+                .description("Execution logs waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("invoker.execution_log.flush")
+                .description("Bulk insert latency")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("invoker.execution_log.dropped")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("invoker.execution_log.spilled")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Thread.ofVirtual().name("execution-log-flusher").start(this::runFlusher);
+    }
 
     @Override
-    public void saveLog(ExecutionLog log) {
-        repository.save(log);
+    public void saveLog(ExecutionLog executionLog) {
+        if (offerLog(executionLog)) {
+            return;
+        }
+
+        switch (properties.overflowPolicy()) {
+            // DROP_SUCCESS에서 여기까지 온 로그 = 실패 로그 (성공 로그는 offerLog에서 버림)
+            case BLOCK, DROP_SUCCESS -> offerWithTimeout(executionLog);
+            case SPILL -> spill(executionLog);
+        }
+    }
+
+    @Override
+    public boolean offerLog(ExecutionLog executionLog) {
+        if (queue.offer(executionLog)) {
+            return true;
+        }
+        if (properties.overflowPolicy() == ExecutionLogProperties.OverflowPolicy.DROP_SUCCESS && executionLog.isSuccess()) {
+            droppedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // [변경] put(무한 대기) -> blockTimeout까지만 대기 (DB가 멈춰도 호출 스레드가 쌓이지 않도록)
+    private void offerWithTimeout(ExecutionLog executionLog) {
+        try {
+            if (!queue.offer(executionLog, properties.blockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                droppedCounter.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    // ==========================================
+    // Flush
+    // ==========================================
+
+    private void runFlusher() {
+        List<ExecutionLog> batch = new ArrayList<>(properties.batchSize());
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                // batchSize가 차거나 flushInterval이 지날 때까지 모음
+                while (batch.size() < properties.batchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ExecutionLog first = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, properties.batchSize() - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+
+                // 대기열에 여유가 있을 때만 Spill 파일 재적재
+                if (queue.remainingCapacity() > properties.queueCapacity() / 2) {
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                // 종료 시 남은 로그는 아래 shutdown에서 처리
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Execution log flusher error: {}", e.getMessage(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ExecutionLog> batch) {
+        long start = System.nanoTime();
+        try {
+            // Unordered: 일부 문서가 실패(중복 키 등)해도 나머지는 계속 저장
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ExecutionLog.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // 중복 키(재적재된 로그가 이미 저장된 경우)는 성공으로 간주, 나머지만 실패 처리
+            List<ExecutionLog> failed = e.getErrors().stream()
+                    .filter(error -> error.getCode() != DUPLICATE_KEY_ERROR)
+                    .map(error -> batch.get(error.getIndex()))
+                    .toList();
+            if (!failed.isEmpty()) {
+                log.error("Failed to write execution logs ({}/{}): {}", failed.size(), batch.size(), e.getMessage());
+                handleFailed(failed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to write execution logs (batch: {}): {}", batch.size(), e.getMessage());
+            handleFailed(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void handleFailed(List<ExecutionLog> failed) {
+        if (properties.overflowPolicy() == ExecutionLogProperties.OverflowPolicy.SPILL) {
+            failed.forEach(this::spill);
+        } else {
+            droppedCounter.increment(failed.size());
+        }
+    }
+
+    // ==========================================
+    // Spill (로컬 파일, JSON Lines)
+    // ==========================================
+
+    private void spill(ExecutionLog executionLog) {
+        spillLock.lock();
+        try {
+            Path spillFile = properties.spillFile();
+            Path parent = spillFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(objectMapper.writeValueAsString(executionLog));
+                writer.newLine();
+            }
+            spilledCounter.increment();
+        } catch (IOException e) {
+            log.error("Failed to spill execution log [{}]: {}", executionLog.getId(), e.getMessage());
+            droppedCounter.increment();
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void replaySpill() {
+        Path spillFile = properties.spillFile();
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+
+        // 이전 재적재가 중간에 실패했다면 남은 파일부터 처리
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+            // 재적재 중에도 새 Spill이 쌓일 수 있으므로 파일을 분리한 뒤 읽음
+            spillLock.lock();
+            try {
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("Failed to rotate spill file: {}", e.getMessage());
+                return;
+            } finally {
+                spillLock.unlock();
+            }
+        }
+
+        List<ExecutionLog> batch = new ArrayList<>(properties.batchSize());
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(objectMapper.readValue(line, ExecutionLog.class));
+                if (batch.size() >= properties.batchSize()) {
+                    flush(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                replayed += batch.size();
+            }
+            Files.deleteIfExists(replayFile);
+            log.info("Replayed spilled execution logs: {}", replayed);
+        } catch (IOException e) {
+            log.error("Failed to replay spill file: {}", e.getMessage());
+        }
+    }
+
+    // 종료 시 대기열에 남은 로그를 모두 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<ExecutionLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [추가] 장애 Agent 공유
+ * - agent:down (ZSET, score = 차단 만료 시각) -> pop 스크립트가 이 Agent의 컨테이너를 건너뜀
+ * - agent:health:down / agent:health:up 채널 -> 다른 Invoker가 바로 라우팅을 멈추거나 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentHealthRedisAdapter {
+
+    public static final String AGENT_DOWN_KEY = "agent:down";
+    public static final String AGENT_DOWN_CHANNEL = "agent:health:down";
+    public static final String AGENT_UP_CHANNEL = "agent:health:up";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void markDown(String agentIp, Duration ttl) {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(AGENT_DOWN_KEY, 0, now);
+            stringRedisTemplate.opsForZSet().add(AGENT_DOWN_KEY, agentIp, now + ttl.toMillis());
+            stringRedisTemplate.convertAndSend(AGENT_DOWN_CHANNEL, agentIp);
+        } catch (Exception e) {
+            log.error("Failed to publish agent down [{}]: {}", agentIp, e.getMessage());
+        }
+    }
+
+    public void markUp(String agentIp) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(AGENT_DOWN_KEY, agentIp);
+            stringRedisTemplate.convertAndSend(AGENT_UP_CHANNEL, agentIp);
+        } catch (Exception e) {
+            log.error("Failed to publish agent up [{}]: {}", agentIp, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 차단 중인 Agent 목록 (기동 시 동기화용)
+     * @return Key: agentIp, Value: 남은 차단 시간
+     */
+    public Map<String, Duration> findDown() {
+        long now = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> members =
+                stringRedisTemplate.opsForZSet().rangeByScoreWithScores(AGENT_DOWN_KEY, now, Double.MAX_VALUE);
+
+        Map<String, Duration> result = new HashMap<>();
+        if (members != null) {
+            for (ZSetOperations.TypedTuple<String> member : members) {
+                if (member.getValue() != null && member.getScore() != null) {
+                    result.put(member.getValue(), Duration.ofMillis(member.getScore().longValue() - now));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.invoker.application.port.out.AsyncInvocationPort;
+import com.hanyahunya.invoker.domain.model.AsyncInvocation;
+import com.hanyahunya.invoker.infra.config.AsyncInvokeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * [추가] 비동기 실행 상태/결과 저장 (Key: invoke:result:{requestId}, TTL 적용)
+ * - 어느 Invoker에서 실행되든 조회 가능하도록 Redis에 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncInvocationRedisAdapter implements AsyncInvocationPort {
+
+    private static final String RESULT_PREFIX = "invoke:result:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AsyncInvokeProperties properties;
+
+    @Override
+    public void save(AsyncInvocation invocation) {
+        try {
+            String json = objectMapper.writeValueAsString(invocation);
+            stringRedisTemplate.opsForValue().set(RESULT_PREFIX + invocation.requestId(), json, properties.resultTtl());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize async invocation", e);
+        }
+    }
+
+    @Override
+    public Optional<AsyncInvocation> find(UUID requestId) {
+        String json = stringRedisTemplate.opsForValue().get(RESULT_PREFIX + requestId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, AsyncInvocation.class));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse async invocation [{}]: {}", requestId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * [추가] 컨테이너 풀 프로토콜용 Lua 스크립트 모음
+ * - 실행은 EVALSHA로 이루어지며, 서버에 스크립트가 없으면(NOSCRIPT) Spring이 EVAL로 한 번 재시도함
+ * - 기동 시 SCRIPT LOAD로 미리 적재해서 첫 요청부터 EVALSHA 한 번으로 끝나도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContainerPoolScripts {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Getter
+    private final RedisScript<String> popContainer =
+            RedisScript.of(new ClassPathResource("scripts/pop_container.lua"), String.class);
+    @Getter
+    private final RedisScript<String> requestContainer =
+            RedisScript.of(new ClassPathResource("scripts/request_container.lua"), String.class);
+    @Getter
+    private final RedisScript<Long> returnContainer =
+            RedisScript.of(new ClassPathResource("scripts/return_container.lua"), Long.class);
+    @Getter
+    private final RedisScript<Long> evictContainer =
+            RedisScript.of(new ClassPathResource("scripts/evict_container.lua"), Long.class);
+
+    @PostConstruct
+    public void preload() {
+        List<RedisScript<?>> scripts = List.of(popContainer, requestContainer, returnContainer, evictContainer);
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RedisScript<?> script : scripts) {
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            log.info("Redis scripts preloaded: {}", scripts.size());
+        } catch (Exception e) {
+            // 적재에 실패해도 최초 실행 시 EVAL로 폴백되므로 기동은 계속함
+            log.warn("Failed to preload Redis scripts: {}", e.getMessage());
+        }
+    }
+}
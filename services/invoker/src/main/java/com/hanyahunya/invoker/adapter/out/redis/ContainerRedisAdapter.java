@@ -1,14 +1,21 @@
 package com.hanyahunya.invoker.adapter.out.redis;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.invoker.application.port.out.ContainerPoolPort;
 import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -20,27 +27,111 @@ public class ContainerRedisAdapter implements ContainerPoolPort {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final ContainerPoolScripts scripts;
+    private final MeterRegistry meterRegistry;
 
     private static final String IDLE_QUEUE_PREFIX = "func:idle:";
     private static final String REQUEST_QUEUE_PREFIX = "func:request:queue:";
     private static final int TOTAL_PARTITIONS = 16384;
 
+    // [추가] Cold Start 컨테이너 최대 대기 시간 (요청 deadline도 같은 값 -> 지나면 Provisioner가 건너뜀)
+    public static final Duration CONTAINER_WAIT_TIMEOUT = Duration.ofMinutes(3);
+
+    // [추가] 취소된 Cold Start 요청 표시 (Key: func:request:cancel:{nonce}, deadline까지만 보관)
+    private static final String REQUEST_CANCEL_PREFIX = "func:request:cancel:";
+
+    // [추가] Cold Start 대기자 알림 (ContainerWaiterRegistry)
+    private static final String WAITING_PREFIX = ContainerWaiterRegistry.WAITING_PREFIX;
+    private static final String IDLE_NOTIFY_CHANNEL = ContainerWaiterRegistry.IDLE_NOTIFY_CHANNEL;
+
+    // [추가] 최근 Cold Start에 사용된 s3Key (Pre-warm 요청용, 일 단위 패턴을 볼 수 있도록 일주일 이상 보관)
+    public static final String S3_KEY_PREFIX = "func:s3key:";
+    private static final long S3_KEY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(8);
+
+    // [추가] Pre-warm으로 만든 컨테이너의 nonce 접두어 (Warm 경로에서 꺼내지면 Cold Start를 피한 것)
+    private static final String PREWARM_NONCE_PREFIX = "prewarm:";
+
     // GC 관리를 위한 Redis Key 및 설정
     private static final String GC_CONTAINER_KEY = "prov:gc:container";
     private static final long CONTAINER_TTL_MINUTES = 15;
 
+    // [추가] Provisioner에 컨테이너 즉시 제거를 요청하는 채널 (메시지: GC 멤버)
+    private static final String CONTAINER_REMOVE_CHANNEL = "prov:container:remove";
+
     @Override
     public Optional<ContainerInfo> popContainer(UUID functionId) {
-        String key = IDLE_QUEUE_PREFIX + functionId;
-        String jsonResult = stringRedisTemplate.opsForList().leftPop(key);
+        Optional<IdleContainer> idle = popIdle(functionId);
+        if (idle.isPresent() && idle.get().prewarmed()) {
+            meterRegistry.counter("invoker.prewarm.cold_start_avoided").increment();
+        }
+        return idle.map(IdleContainer::containerInfo);
+    }
+
+    /**
+     * [추가] 대기열에서 꺼낸 컨테이너
+     * - fresh: Provisioner가 새로 만든 컨테이너 (nonce 있음), false면 반납된 Warm 컨테이너
+     * - prewarmed: 예측 기반 Pre-warm 요청으로 만든 컨테이너
+     */
+    public record IdleContainer(ContainerInfo containerInfo, String nonce) {
+        public boolean fresh() {
+            return nonce != null;
+        }
+
+        public boolean prewarmed() {
+            return nonce != null && nonce.startsWith(PREWARM_NONCE_PREFIX);
+        }
+    }
+
+    // [추가] Provisioner가 보낸 엔트리에는 nonce가 붙어 있음 (반납 시에는 ContainerInfo만 저장되어 빠짐)
+    private record IdleEntry(String agentIp, String sockPath, @JsonInclude(JsonInclude.Include.NON_NULL) String nonce) {}
+
+    public Optional<IdleContainer> popIdle(UUID functionId) {
+        // [변경] LPOP + GC 만료 연장(Lease)을 Lua 스크립트로 한 번에 처리
+        String jsonResult = stringRedisTemplate.execute(
+                scripts.getPopContainer(),
+                List.of(IDLE_QUEUE_PREFIX + functionId, GC_CONTAINER_KEY, AgentHealthRedisAdapter.AGENT_DOWN_KEY),
+                functionId.toString(),
+                String.valueOf(containerExpiryTime()),
+                String.valueOf(System.currentTimeMillis())
+        );
 
-        return convertJsonToContainerInfo(jsonResult);
+        return convertJsonToIdleContainer(jsonResult);
     }
 
-    private record ColdStartRequest(String functionId, String s3Key) {}
+    // [변경] nonce: Cold Start 요청 식별자 (Provisioner가 생성한 ContainerInfo에 그대로 실려 옴)
+    // [추가] deadline: 대기자가 포기하는 시각 (epoch ms), 지나면 Provisioner가 만들지 않음 (Pre-warm은 없음)
+    private record ColdStartRequest(
+            String functionId,
+            String s3Key,
+            String nonce,
+            @JsonInclude(JsonInclude.Include.NON_NULL) Long deadline
+    ) {}
 
     @Override
-    public void requestContainerCreation(UUID functionId, String s3Key) {
+    public String requestContainerCreation(UUID functionId, String s3Key) {
+        String nonce = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + CONTAINER_WAIT_TIMEOUT.toMillis();
+        pushCreationRequest(functionId, s3Key, nonce, deadline);
+        return nonce;
+    }
+
+    // [추가] deadline까지만 표시해두면 충분 (이후에는 Provisioner가 deadline으로 건너뜀)
+    @Override
+    public void cancelContainerCreation(String requestId) {
+        try {
+            stringRedisTemplate.opsForValue().set(REQUEST_CANCEL_PREFIX + requestId, "1", CONTAINER_WAIT_TIMEOUT);
+        } catch (Exception e) {
+            // 표시하지 못해도 컨테이너가 하나 더 생길 뿐 (다른 요청이 쓰거나 GC로 정리)
+            log.warn("Failed to cancel container creation [{}]: {}", requestId, e.getMessage());
+        }
+    }
+
+    // [추가] 예측 기반 Pre-warm 요청 (대기자 없이 대기열에 쌓임)
+    public void requestPrewarm(UUID functionId, String s3Key) {
+        pushCreationRequest(functionId, s3Key, PREWARM_NONCE_PREFIX + UUID.randomUUID(), null);
+    }
+
+    private void pushCreationRequest(UUID functionId, String s3Key, String nonce, Long deadline) {
         // [변경] Power of Two Choices 적용 (Load Balancing)
         // 항상 고정된 2개의 후보 슬롯을 산출하여 캐시 지역성을 유지함
         int slotA = getPrimarySlot(functionId);
@@ -49,53 +140,125 @@ public class ContainerRedisAdapter implements ContainerPoolPort {
         String queueA = REQUEST_QUEUE_PREFIX + slotA;
         String queueB = REQUEST_QUEUE_PREFIX + slotB;
 
-        // Redis에서 두 큐의 대기열 길이를 조회 (네트워크 왕복 2회 발생하지만 LLEN은 매우 빠름)
-        // *최적화 팁: Lua Script나 Pipelining을 쓰면 1회로 줄일 수 있음
-        Long lenA = stringRedisTemplate.opsForList().size(queueA);
-        Long lenB = stringRedisTemplate.opsForList().size(queueB);
-
-        if (lenA == null) lenA = 0L;
-        if (lenB == null) lenB = 0L;
-
-        // 더 짧은 대기열 선택 (부하 분산)
-        String targetQueue = (lenA <= lenB) ? queueA : queueB;
-
-        ColdStartRequest request = new ColdStartRequest(functionId.toString(), s3Key);
+        ColdStartRequest request = new ColdStartRequest(functionId.toString(), s3Key, nonce, deadline);
 
         try {
             String jsonPayload = objectMapper.writeValueAsString(request);
-            stringRedisTemplate.opsForList().rightPush(targetQueue, jsonPayload);
-            log.info("Requested creation: Queue[{}] (len: A={}, B={}) -> {}", targetQueue, lenA, lenB, functionId);
+            // [변경] LLEN 2회 + RPUSH를 Lua 스크립트 1회 왕복으로 통합 (더 짧은 대기열 선택은 서버에서 원자적으로 수행)
+            String targetQueue = stringRedisTemplate.execute(
+                    scripts.getRequestContainer(),
+                    List.of(queueA, queueB, S3_KEY_PREFIX + functionId),
+                    jsonPayload,
+                    s3Key,
+                    String.valueOf(S3_KEY_TTL_SECONDS)
+            );
+            log.info("Requested creation: Queue[{}] (candidates: {}, {}) -> {} [nonce: {}]", targetQueue, slotA, slotB, functionId, nonce);
         } catch (Exception e) {
             log.error("Failed to push ColdStartRequest to Redis", e);
             throw new RuntimeException("Redis Push Failed");
         }
     }
 
+    // 단독 사용 시 BLPOP 대기 (기본 경로는 LocalContainerPoolAdapter -> ContainerWaiterRegistry)
+    // 생성 실패 알림은 받지 않음 (타임아웃까지 대기)
     @Override
-    public Optional<ContainerInfo> waitContainer(UUID functionId) {
+    public Optional<WaitedContainer> waitContainer(UUID functionId, String requestId) {
         String key = IDLE_QUEUE_PREFIX + functionId;
-        String jsonResult = stringRedisTemplate.opsForList().leftPop(key, 3, TimeUnit.MINUTES);
-        return convertJsonToContainerInfo(jsonResult);
+        String jsonResult = stringRedisTemplate.opsForList().leftPop(key, CONTAINER_WAIT_TIMEOUT);
+        return convertJsonToIdleContainer(jsonResult)
+                .map(idle -> new WaitedContainer(idle.containerInfo(), !idle.fresh()));
     }
 
     @Override
     public void returnContainer(UUID functionId, ContainerInfo containerInfo) {
-        String key = IDLE_QUEUE_PREFIX + functionId;
         try {
-            String jsonValue = objectMapper.writeValueAsString(containerInfo);
-            stringRedisTemplate.opsForList().rightPush(key, jsonValue);
+            pushIdle(functionId, containerInfo, objectMapper.writeValueAsString(containerInfo));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize ContainerInfo", e);
+        }
+    }
+
+    /**
+     * [추가] 꺼냈지만 쓰지 않은 컨테이너를 꺼낸 그대로(nonce 포함) 되돌림
+     * - 새 컨테이너가 반납된 Warm 컨테이너로 바뀌면 다음 대기자가 Stolen으로 집계하고 자기 요청을 취소함
+     */
+    public void returnIdle(UUID functionId, IdleContainer idle) {
+        ContainerInfo info = idle.containerInfo();
+        try {
+            pushIdle(functionId, info, objectMapper.writeValueAsString(new IdleEntry(info.agentIp(), info.sockPath(), idle.nonce())));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize idle container", e);
+        }
+    }
 
+    private void pushIdle(UUID functionId, ContainerInfo containerInfo, String jsonValue) {
+        String key = IDLE_QUEUE_PREFIX + functionId;
+        try {
+            // [변경] RPUSH + Heartbeat(ZADD) (+ 대기자가 있으면 알림)를 Lua 스크립트 1회 왕복으로 통합
             String instanceId = extractInstanceId(containerInfo.sockPath());
-            if (instanceId != null) {
-                updateContainerHeartbeat(functionId.toString(), instanceId, containerInfo.agentIp());
-            }
+            String gcMember = (instanceId != null) ? gcMember(functionId.toString(), instanceId, containerInfo.agentIp()) : "";
+
+            stringRedisTemplate.execute(
+                    scripts.getReturnContainer(),
+                    List.of(key, GC_CONTAINER_KEY, WAITING_PREFIX + functionId),
+                    jsonValue,
+                    gcMember,
+                    String.valueOf(containerExpiryTime()),
+                    IDLE_NOTIFY_CHANNEL,
+                    functionId.toString()
+            );
 
             log.info("Container returned to pool: [{}] -> {}", functionId, containerInfo.agentIp());
+        } catch (Exception e) {
+            log.error("Failed to return container to Redis: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void evictContainer(UUID functionId, ContainerInfo containerInfo) {
+        String instanceId = extractInstanceId(containerInfo.sockPath());
+        if (instanceId == null) {
+            return;
+        }
+        try {
+            // [추가] 대기열 제거 + GC 만료 당김 + 제거 요청을 Lua 스크립트 1회 왕복으로 처리
+            stringRedisTemplate.execute(
+                    scripts.getEvictContainer(),
+                    List.of(IDLE_QUEUE_PREFIX + functionId, GC_CONTAINER_KEY),
+                    objectMapper.writeValueAsString(containerInfo),
+                    gcMember(functionId.toString(), instanceId, containerInfo.agentIp()),
+                    String.valueOf(System.currentTimeMillis()),
+                    CONTAINER_REMOVE_CHANNEL
+            );
+
+            log.info("Container evicted: [{}] {} -> {}", functionId, instanceId, containerInfo.agentIp());
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize ContainerInfo", e);
         } catch (Exception e) {
-            log.error("Failed to return container to Redis: {}", e.getMessage(), e);
+            // 실패해도 GC 만료 시점에는 정리됨
+            log.error("Failed to evict container [{}]: {}", functionId, e.getMessage());
+        }
+    }
+
+    /**
+     * [추가] 대기열을 거치지 않고 재사용 중인 컨테이너의 GC 만료 시각만 연장 (LocalContainerPoolAdapter용)
+     * - XX: GC가 이미 정리한 컨테이너는 되살리지 않음
+     */
+    public void extendLease(UUID functionId, ContainerInfo containerInfo) {
+        String instanceId = extractInstanceId(containerInfo.sockPath());
+        if (instanceId == null) {
+            return;
+        }
+        byte[] key = GC_CONTAINER_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] member = gcMember(functionId.toString(), instanceId, containerInfo.agentIp()).getBytes(StandardCharsets.UTF_8);
+        long expiryTime = containerExpiryTime();
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.zSetCommands().zAdd(key, expiryTime, member, RedisZSetCommands.ZAddArgs.ifExists())
+            );
+        } catch (Exception e) {
+            log.warn("Failed to extend container lease [{}]: {}", functionId, e.getMessage());
         }
     }
 
@@ -111,10 +274,13 @@ public class ContainerRedisAdapter implements ContainerPoolPort {
         return null;
     }
 
-    private void updateContainerHeartbeat(String functionId, String instanceId, String agentIp) {
-        String member = functionId + ":" + instanceId + ":" + agentIp;
-        long expiryTime = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(CONTAINER_TTL_MINUTES);
-        stringRedisTemplate.opsForZSet().add(GC_CONTAINER_KEY, member, expiryTime);
+    // GC 관리용 멤버 포맷: "functionId:instanceId:agentIp" (Provisioner와 동일)
+    private String gcMember(String functionId, String instanceId, String agentIp) {
+        return functionId + ":" + instanceId + ":" + agentIp;
+    }
+
+    private long containerExpiryTime() {
+        return System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(CONTAINER_TTL_MINUTES);
     }
 
     // [변경] 첫 번째 후보 슬롯 (기존 방식)
@@ -129,13 +295,14 @@ public class ContainerRedisAdapter implements ContainerPoolPort {
         return Math.abs((functionId.toString() + ":secondary").hashCode()) % TOTAL_PARTITIONS;
     }
 
-    private Optional<ContainerInfo> convertJsonToContainerInfo(String jsonResult) {
+    private Optional<IdleContainer> convertJsonToIdleContainer(String jsonResult) {
         if (jsonResult == null) {
             return Optional.empty();
         }
         try {
-            ContainerInfo info = objectMapper.readValue(jsonResult, ContainerInfo.class);
-            return Optional.of(info);
+            IdleEntry entry = objectMapper.readValue(jsonResult, IdleEntry.class);
+            ContainerInfo info = new ContainerInfo(entry.agentIp(), entry.sockPath());
+            return Optional.of(new IdleContainer(info, entry.nonce()));
         } catch (JsonProcessingException e) {
             log.error("Failed to parse Redis JSON result: {}", jsonResult, e);
             return Optional.empty();
@@ -0,0 +1,307 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.invoker.application.port.out.ContainerPoolPort.ProvisioningFailedException;
+import com.hanyahunya.invoker.application.port.out.ContainerPoolPort.WaitedContainer;
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [추가] Cold Start 대기자 레지스트리 (요청당 BLPOP 커넥션 대신)
+ * - 대기 요청은 Future로 등록되고 가상 스레드는 커넥션 없이 park
+ * - 컨테이너가 대기열에 들어오면 알림 채널(func:idle:notify)을 받아 함수별로 FIFO 순서대로 전달
+ * - 알림 유실 대비 1초 주기 폴링 + 대기 마커(func:waiting:{functionId}) 갱신
+ * => 대기자 수와 무관하게 Redis 커넥션은 구독 1개 + 짧은 명령뿐
+ * [추가] 생성 실패 알림(func:provision:failed)을 받으면 해당 요청의 대기자를 바로 실패 처리
+ * - 코드/설정 문제(permanent)는 같은 함수의 모든 대기자가 같은 이유로 실패하므로 전부 실패 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContainerWaiterRegistry implements MessageListener {
+
+    public static final String IDLE_NOTIFY_CHANNEL = "func:idle:notify";
+    public static final String WAITING_PREFIX = "func:waiting:";
+    // [추가] Provisioner 생성 실패 알림 (메시지: {functionId, nonce, reason, permanent})
+    public static final String PROVISION_FAILED_CHANNEL = "func:provision:failed";
+
+    // 대기 마커 TTL (폴링 주기보다 충분히 길게 -> Invoker가 죽으면 자동 소멸)
+    private static final Duration WAITING_MARKER_TTL = Duration.ofSeconds(3);
+
+    private final ContainerRedisAdapter containerRedisAdapter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // Key: functionId, Value: 도착 순서대로 대기 중인 요청
+    private final Map<UUID, WaiterQueue> waiters = new ConcurrentHashMap<>();
+
+    // Redis pop/반납은 구독 스레드가 아닌 가상 스레드에서 수행
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(IDLE_NOTIFY_CHANNEL),
+                new ChannelTopic(PROVISION_FAILED_CHANNEL)
+        ));
+    }
+
+    private record ProvisionFailure(String functionId, String nonce, String reason, boolean permanent) {}
+
+    /**
+     * 컨테이너가 대기열에 들어올 때까지 대기 (호출 스레드는 park, 커넥션 미점유)
+     * @param requestId 이 대기자가 보낸 Cold Start 요청 ID (생성 실패 알림 매칭용)
+     * @throws ProvisioningFailedException 요청한 컨테이너 생성이 실패한 경우
+     */
+    public Optional<WaitedContainer> await(UUID functionId, String requestId, Duration timeout) {
+        Waiter waiter = new Waiter(requestId, new CompletableFuture<>());
+        register(functionId, waiter);
+        markWaiting(functionId);
+
+        // 등록 전에 이미 도착한 컨테이너가 있을 수 있으므로 바로 한 번 확인
+        requestDrain(functionId);
+
+        try {
+            return Optional.of(waiter.future().get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return abandon(waiter.future());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandon(waiter.future());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProvisioningFailedException failure) {
+                throw failure;
+            }
+            log.error("Container waiter failed [{}]: {}", functionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 같은 Invoker의 대기자에게 컨테이너를 직접 전달 (Redis 미경유)
+     * @return 전달했으면 true
+     */
+    public boolean handOff(UUID functionId, ContainerInfo containerInfo) {
+        WaiterQueue queue = waiters.get(functionId);
+        // 반납된 Warm 컨테이너 -> 대기자 입장에서는 Stolen
+        return queue != null && queue.complete(new WaitedContainer(containerInfo, true));
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (PROVISION_FAILED_CHANNEL.equals(channel)) {
+            onProvisionFailed(body);
+            return;
+        }
+        try {
+            UUID functionId = UUID.fromString(body);
+            if (waiters.containsKey(functionId)) {
+                requestDrain(functionId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid idle notify event: {}", body);
+        }
+    }
+
+    private void onProvisionFailed(String body) {
+        try {
+            ProvisionFailure failure = objectMapper.readValue(body, ProvisionFailure.class);
+            WaiterQueue queue = waiters.get(UUID.fromString(failure.functionId()));
+            if (queue == null) {
+                return;
+            }
+            ProvisioningFailedException exception = new ProvisioningFailedException(failure.reason());
+            int failed = failure.permanent()
+                    ? queue.failAll(exception)
+                    : queue.fail(failure.nonce(), exception);
+            if (failed > 0) {
+                log.warn("Provisioning failed [{}], failing {} waiter(s): {}", failure.functionId(), failed, failure.reason());
+            }
+        } catch (Exception e) {
+            log.warn("Invalid provision failure event: {}", body);
+        }
+    }
+
+    // 알림 유실 대비 폴링 + 대기 마커 갱신 + 빈 대기열 정리
+    @Scheduled(fixedDelay = 1000)
+    public void poll() {
+        waiters.forEach((functionId, queue) -> {
+            queue.purgeDone();
+            if (queue.isEmpty()) {
+                if (waiters.remove(functionId, queue)) {
+                    // 제거 직전에 등록된 대기자는 새 대기열로 옮김
+                    Waiter late;
+                    while ((late = queue.poll()) != null) {
+                        register(functionId, late);
+                    }
+                }
+                return;
+            }
+            markWaiting(functionId);
+            requestDrain(functionId);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    private void register(UUID functionId, Waiter waiter) {
+        while (true) {
+            WaiterQueue queue = waiters.computeIfAbsent(functionId, k -> new WaiterQueue());
+            queue.add(waiter);
+            // poll()이 빈 대기열을 제거한 직후에 등록된 경우 -> 새 대기열에 다시 등록
+            if (waiters.get(functionId) == queue) {
+                return;
+            }
+        }
+    }
+
+    // 타임아웃과 전달이 동시에 일어난 경우 전달받은 컨테이너를 버리지 않음
+    private Optional<WaitedContainer> abandon(CompletableFuture<WaitedContainer> waiter) {
+        if (waiter.cancel(false)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(waiter.getNow(null));
+    }
+
+    private void markWaiting(UUID functionId) {
+        try {
+            stringRedisTemplate.opsForValue().set(WAITING_PREFIX + functionId, "1", WAITING_MARKER_TTL);
+        } catch (Exception e) {
+            // 마커가 없어도 1초 폴링으로 전달됨
+            log.warn("Failed to mark waiting [{}]: {}", functionId, e.getMessage());
+        }
+    }
+
+    private void requestDrain(UUID functionId) {
+        WaiterQueue queue = waiters.get(functionId);
+        if (queue != null && queue.tryStartDrain()) {
+            dispatchExecutor.execute(() -> drain(functionId, queue));
+        }
+    }
+
+    // 함수별로 한 번에 하나의 drain만 실행 (실행 중 요청이 들어오면 한 번 더 반복)
+    private void drain(UUID functionId, WaiterQueue queue) {
+        do {
+            try {
+                while (queue.hasWaiter()) {
+                    Optional<ContainerRedisAdapter.IdleContainer> idle = containerRedisAdapter.popIdle(functionId);
+                    if (idle.isEmpty()) {
+                        break;
+                    }
+                    // [변경] 새 컨테이너가 아니면(다른 Invoker가 Redis로 반납한 Warm 컨테이너) Stolen
+                    ContainerInfo containerInfo = idle.get().containerInfo();
+                    if (!queue.complete(new WaitedContainer(containerInfo, !idle.get().fresh()))) {
+                        // 그 사이 대기자가 모두 타임아웃된 경우 -> 다시 대기열로 반납
+                        // [변경] nonce를 유지 (새 컨테이너가 반납된 Warm 컨테이너로 바뀌지 않도록)
+                        containerRedisAdapter.returnIdle(functionId, idle.get());
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Failed to dispatch containers [{}]: {}", functionId, e.getMessage());
+            }
+        } while (queue.finishDrain());
+    }
+
+    // requestId: 이 대기자가 보낸 Cold Start 요청 (생성 실패 알림 매칭용)
+    private record Waiter(String requestId, CompletableFuture<WaitedContainer> future) {}
+
+    private static class WaiterQueue {
+        private final ConcurrentLinkedQueue<Waiter> futures = new ConcurrentLinkedQueue<>();
+        // 0: idle, 1: drain 중, 2 이상: drain 중 추가 요청 있음
+        private final AtomicInteger drainState = new AtomicInteger();
+
+        void add(Waiter waiter) {
+            futures.add(waiter);
+        }
+
+        // 가장 오래 기다린 대기자부터 전달 (이미 타임아웃된 대기자는 건너뜀)
+        boolean complete(WaitedContainer delivery) {
+            Waiter waiter;
+            while ((waiter = futures.poll()) != null) {
+                if (waiter.future().complete(delivery)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // [추가] 해당 요청을 보낸 대기자만 실패 처리 (이미 다른 컨테이너를 받았으면 무시)
+        int fail(String requestId, ProvisioningFailedException exception) {
+            int failed = 0;
+            for (Waiter waiter : futures) {
+                if (waiter.requestId() != null && waiter.requestId().equals(requestId)
+                        && waiter.future().completeExceptionally(exception)) {
+                    failed++;
+                }
+            }
+            return failed;
+        }
+
+        int failAll(ProvisioningFailedException exception) {
+            int failed = 0;
+            for (Waiter waiter : futures) {
+                if (waiter.future().completeExceptionally(exception)) {
+                    failed++;
+                }
+            }
+            return failed;
+        }
+
+        Waiter poll() {
+            return futures.poll();
+        }
+
+        boolean hasWaiter() {
+            purgeDone();
+            return !futures.isEmpty();
+        }
+
+        boolean isEmpty() {
+            return futures.isEmpty();
+        }
+
+        void purgeDone() {
+            futures.removeIf(waiter -> waiter.future().isDone());
+        }
+
+        boolean tryStartDrain() {
+            return drainState.getAndIncrement() == 0;
+        }
+
+        // 반복이 필요하면 true
+        boolean finishDrain() {
+            if (drainState.compareAndSet(1, 0)) {
+                return false;
+            }
+            drainState.set(1);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.hanyahunya.invoker.application.port.out.IdempotencyPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * [추가] 멱등 키 상태 저장 (Key: invoke:idem:{functionId}:{key})
+ * - PENDING: 실행 중 (owner + 함수 timeout 기준 TTL -> Invoker가 죽으면 만료되어 다른 요청이 다시 선점)
+ * - DONE: 성공 결과 보관 (retention 동안 재전송)
+ * - Redis 장애 시 선점 성공으로 처리 (같은 Invoker 안의 중복 제거는 그대로 동작)
+ */
+@Slf4j
+@Component
+public class IdempotencyRedisAdapter implements IdempotencyPort {
+
+    private static final String KEY_PREFIX = "invoke:idem:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private final RedisScript<List<String>> claimScript =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/claim_idempotency.lua"), List.class);
+
+    private final RedisScript<Long> finishScript =
+            RedisScript.of(new ClassPathResource("scripts/finish_idempotency.lua"), Long.class);
+
+    public IdempotencyRedisAdapter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Claim claim(UUID functionId, String key, String payloadHash, String owner, Duration pendingTtl) {
+        try {
+            List<String> entry = stringRedisTemplate.execute(
+                    claimScript,
+                    List.of(redisKey(functionId, key)),
+                    payloadHash,
+                    owner,
+                    String.valueOf(pendingTtl.toMillis())
+            );
+            if (entry == null || entry.size() < 3) {
+                return new Claim(State.ACQUIRED, payloadHash, null);
+            }
+            return switch (entry.get(0)) {
+                case "ACQUIRED" -> new Claim(State.ACQUIRED, entry.get(1), null);
+                case "DONE" -> new Claim(State.COMPLETED, entry.get(1), Base64.getDecoder().decode(entry.get(2)));
+                default -> new Claim(State.IN_PROGRESS, entry.get(1), null);
+            };
+        } catch (Exception e) {
+            log.warn("Idempotency claim failed [{}]: {}", functionId, e.getMessage());
+            return new Claim(State.ACQUIRED, payloadHash, null);
+        }
+    }
+
+    @Override
+    public void complete(UUID functionId, String key, String owner, byte[] result, Duration retention) {
+        finish(functionId, key, owner, "DONE", Base64.getEncoder().encodeToString(result), retention);
+    }
+
+    @Override
+    public void release(UUID functionId, String key, String owner) {
+        finish(functionId, key, owner, "FAILED", "", Duration.ZERO);
+    }
+
+    private void finish(UUID functionId, String key, String owner, String state, String result, Duration retention) {
+        try {
+            stringRedisTemplate.execute(
+                    finishScript,
+                    List.of(redisKey(functionId, key)),
+                    owner,
+                    state,
+                    result,
+                    String.valueOf(retention.toMillis())
+            );
+        } catch (Exception e) {
+            // 마커는 TTL로 정리됨
+            log.warn("Idempotency finish failed [{}]: {}", functionId, e.getMessage());
+        }
+    }
+
+    private static String redisKey(UUID functionId, String key) {
+        return KEY_PREFIX + functionId + ":" + key;
+    }
+}
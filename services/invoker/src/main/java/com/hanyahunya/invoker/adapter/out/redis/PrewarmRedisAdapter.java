@@ -0,0 +1,55 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.hanyahunya.invoker.application.port.out.PrewarmPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrewarmRedisAdapter implements PrewarmPort {
+
+    private static final String LEADER_KEY = "invoker:prewarm:leader";
+    private static final String IDLE_QUEUE_PREFIX = "func:idle:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ContainerRedisAdapter containerRedisAdapter;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Override
+    public boolean tryLead(Duration ttl) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LEADER_KEY, instanceId, ttl))) {
+            return true;
+        }
+        if (instanceId.equals(stringRedisTemplate.opsForValue().get(LEADER_KEY))) {
+            stringRedisTemplate.expire(LEADER_KEY, ttl);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long countIdle(UUID functionId) {
+        Long size = stringRedisTemplate.opsForList().size(IDLE_QUEUE_PREFIX + functionId);
+        return (size != null) ? size : 0;
+    }
+
+    @Override
+    public Optional<String> findS3Key(UUID functionId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(ContainerRedisAdapter.S3_KEY_PREFIX + functionId));
+    }
+
+    @Override
+    public void requestPrewarm(UUID functionId, String s3Key, int count) {
+        for (int i = 0; i < count; i++) {
+            containerRedisAdapter.requestPrewarm(functionId, s3Key);
+        }
+    }
+}
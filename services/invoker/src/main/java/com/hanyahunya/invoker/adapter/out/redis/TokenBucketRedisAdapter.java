@@ -0,0 +1,95 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanyahunya.invoker.infra.config.AdmissionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [추가] 클러스터 공용 토큰 버킷 (Redis)
+ * - 요청마다 Redis를 호출하지 않고 prefetch 개씩 받아서 로컬에서 소진 (로컬 선집계)
+ * - 오래 쓰지 않은 로컬 토큰은 버림 -> 한 Invoker가 토큰을 쥐고 있어서 다른 Invoker가 굶지 않도록
+ * - Redis 장애 시에는 통과시킴 (로컬 동시 실행 제한은 그대로 적용됨)
+ */
+@Slf4j
+@Component
+public class TokenBucketRedisAdapter {
+
+    private static final String BUCKET_PREFIX = "admission:bucket:";
+    private static final Duration LOCAL_TOKEN_TTL = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdmissionProperties.Cluster properties;
+
+    private final RedisScript<Long> takeTokens =
+            RedisScript.of(new ClassPathResource("scripts/take_tokens.lua"), Long.class);
+
+    // Key: 버킷 이름, Value: Redis에서 미리 받아둔 토큰 수
+    private final Cache<String, AtomicLong> localTokens = Caffeine.newBuilder()
+            .expireAfterAccess(LOCAL_TOKEN_TTL)
+            .build();
+
+    public TokenBucketRedisAdapter(StringRedisTemplate stringRedisTemplate, AdmissionProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties.cluster();
+    }
+
+    /**
+     * @param bucket 버킷 이름 (예: func:{functionId}, owner:{ownerId})
+     * @return 토큰을 얻었으면 true
+     */
+    public boolean tryConsume(String bucket) {
+        AtomicLong local = localTokens.get(bucket, k -> new AtomicLong());
+        if (tryDecrement(local)) {
+            return true;
+        }
+
+        try {
+            Long granted = stringRedisTemplate.execute(
+                    takeTokens,
+                    List.of(BUCKET_PREFIX + bucket),
+                    String.valueOf(properties.ratePerSecond()),
+                    String.valueOf(properties.burst()),
+                    String.valueOf(properties.prefetch())
+            );
+            if (granted == null || granted <= 0) {
+                return false;
+            }
+            // 1개는 지금 사용, 나머지는 로컬에 보관
+            if (granted > 1) {
+                local.addAndGet(granted - 1);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Token bucket unavailable [{}]: {}", bucket, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * [추가] 사용하지 않은 토큰 반납 (다른 한도에 걸려 거절된 경우)
+     * - 로컬에 되돌려서 다음 요청이 사용 -> 오래 쓰이지 않으면 다른 로컬 토큰처럼 버려짐
+     */
+    public void refund(String bucket) {
+        localTokens.get(bucket, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private boolean tryDecrement(AtomicLong tokens) {
+        long current;
+        do {
+            current = tokens.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - 1));
+        return true;
+    }
+}
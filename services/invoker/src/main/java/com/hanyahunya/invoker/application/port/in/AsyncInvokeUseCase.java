@@ -0,0 +1,13 @@
+package com.hanyahunya.invoker.application.port.in;
+
+import com.hanyahunya.invoker.domain.model.AsyncInvocation;
+
+import java.util.UUID;
+
+public interface AsyncInvokeUseCase {
+    // 실행을 대기열에 넣고 바로 requestId 반환
+    UUID submit(InvokeUseCase.Command command);
+
+    // [변경] 실행을 요청한 함수의 Access Key로만 조회 가능
+    AsyncInvocation getResult(UUID requestId, String accessKey);
+}
@@ -0,0 +1,31 @@
+package com.hanyahunya.invoker.application.port.in;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface BatchInvokeUseCase {
+    /**
+     * 여러 입력을 한 번에 실행
+     * - 결과는 항목 순서대로 consumer에 전달됨 (스트리밍 응답 가능)
+     */
+    void invokeBatch(Command command, Consumer<ItemResult> consumer);
+
+    record Command(
+            List<Item> items,
+            int parallelism
+    ) {}
+
+    record Item(
+            UUID functionId,
+            String accessKey,
+            byte[] payload
+    ) {}
+
+    record ItemResult(
+            int index,
+            boolean success,
+            byte[] result,
+            String errorMessage
+    ) {}
+}
@@ -0,0 +1,8 @@
+package com.hanyahunya.invoker.application.port.in;
+
+import java.util.UUID;
+
+public interface FunctionChangeUseCase {
+    // Registry에서 함수가 생성/변경되었을 때 호출
+    void handleFunctionChanged(UUID functionId);
+}
@@ -1,18 +1,35 @@
 package com.hanyahunya.invoker.application.port.in;
 
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface InvokeUseCase {
-    Result invoke(Command command);
+    // [변경] Agent 실행 완료 시점에 완료되는 Future 반환 (요청 스레드가 실행 시간 동안 대기하지 않음)
+    CompletableFuture<Result> invoke(Command command);
 
+    /**
+     * [추가] 멱등 키 지정 실행 (idempotencyKey가 null이면 일반 실행)
+     * - 같은 키로 실행 중인 요청이 있으면 그 결과를 함께 받고, 완료된 요청이면 보관된 결과를 재전송
+     */
+    CompletableFuture<Result> invoke(Command command, String idempotencyKey);
+
+    // [추가] 스트리밍 실행 - 함수 출력과 로그를 생성되는 즉시 handler로 전달
+    CompletableFuture<Result> invokeStream(Command command, StreamHandler handler);
+
+    interface StreamHandler {
+        void onOutput(byte[] chunk);
+
+        void onLog(String line);
+    }
+
+    // [변경] 파라미터는 직렬화된 바이트 그대로 전달 (Map 역직렬화/재직렬화 제거)
     record Command(
             UUID functionId,
             String accessKey,
-            Map<String, Object> params
+            byte[] payload
     ) {}
 
     record Result(
-            String result
+            byte[] result
     ) {}
-}
\ No newline at end of file
+}
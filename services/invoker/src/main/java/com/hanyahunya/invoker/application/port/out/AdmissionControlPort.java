@@ -0,0 +1,17 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AdmissionControlPort {
+    /**
+     * 함수/소유자별 실행 허가 획득
+     * - 한도에 걸리면 대기 시간(queue-timeout)까지만 기다리고, 그래도 없으면 empty
+     */
+    Optional<Permit> tryAcquire(UUID functionId, UUID ownerId);
+
+    interface Permit {
+        // 여러 번 호출해도 한 번만 반납됨
+        void release();
+    }
+}
@@ -1,17 +1,44 @@
 package com.hanyahunya.invoker.application.port.out;
 
-import java.util.Map;
+import com.hanyahunya.invoker.domain.model.FailureType;
+
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface AgentInvokePort {
-    AgentResponse executeFunction(String agentIp, String sockPath, Map<String, Object> params, UUID requestId);
+    /**
+     * [변경] 비동기 실행 (호출 스레드를 점유하지 않음)
+     * - timeout: 함수에 설정된 실행 제한 시간. 초과 시 Agent 호출이 취소되고 실패 응답으로 완료됨
+     * - 반환된 Future를 cancel 하면 Agent 쪽 실행도 취소 전파됨
+     * - [변경] payload/result는 바이트 그대로 주고받음 (JSON 재인코딩 없음)
+     */
+    CompletableFuture<AgentResponse> executeFunction(String agentIp, String sockPath, byte[] payload, UUID requestId, Duration timeout);
+
+    /**
+     * [추가] 스트리밍 실행 (Server Streaming RPC)
+     * - 출력/로그 조각은 listener로 전달되며, listener가 반환해야 다음 조각을 받음 (Flow Control)
+     * - 반환된 Future는 최종 결과(메타데이터)로 완료됨. result는 이미 스트리밍 되었으므로 비어 있음
+     */
+    CompletableFuture<AgentResponse> executeFunctionStream(String agentIp, String sockPath, byte[] payload, UUID requestId, Duration timeout, StreamListener listener);
+
+    interface StreamListener {
+        void onOutput(byte[] chunk);
+
+        void onLog(String line);
+    }
 
     record AgentResponse(
-            String result,
+            byte[] result,
             boolean success,
             long memoryUsage,
             String errorMessage,
             long durationMs,
-            String logS3Key
-    ) {}
-}
\ No newline at end of file
+            String logS3Key,
+            FailureType failureType // [추가] 실패 원인 (성공 시 NONE)
+    ) {
+        public static AgentResponse failure(String errorMessage, FailureType failureType) {
+            return new AgentResponse(null, false, 0, errorMessage, 0, null, failureType);
+        }
+    }
+}
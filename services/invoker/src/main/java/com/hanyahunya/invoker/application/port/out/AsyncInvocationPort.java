@@ -0,0 +1,12 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import com.hanyahunya.invoker.domain.model.AsyncInvocation;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AsyncInvocationPort {
+    void save(AsyncInvocation invocation);
+
+    Optional<AsyncInvocation> find(UUID requestId);
+}
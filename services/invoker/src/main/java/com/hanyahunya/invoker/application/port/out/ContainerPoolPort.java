@@ -8,9 +8,40 @@ import java.util.UUID;
 public interface ContainerPoolPort {
     Optional<ContainerInfo> popContainer(UUID functionId);
 
-    void requestContainerCreation(UUID functionId, String s3Key);
+    // [변경] 요청 ID(nonce) 반환 -> 더 이상 필요 없어지면 cancelContainerCreation으로 취소
+    String requestContainerCreation(UUID functionId, String s3Key);
 
-    Optional<ContainerInfo> waitContainer(UUID functionId);
+    /**
+     * [추가] Cold Start 요청 취소 (대기 타임아웃 / Stolen 컨테이너로 충족된 경우)
+     * - Provisioner가 아직 꺼내지 않은 요청이면 컨테이너를 만들지 않고 건너뜀
+     */
+    void cancelContainerCreation(String requestId);
+
+    /**
+     * [변경] requestId: requestContainerCreation이 반환한 요청 ID
+     * - 해당 요청의 컨테이너 생성이 실패하면 타임아웃까지 기다리지 않고 ProvisioningFailedException
+     */
+    Optional<WaitedContainer> waitContainer(UUID functionId, String requestId);
 
     void returnContainer(UUID functionId, ContainerInfo containerInfo);
+
+    // [추가] 재사용하면 안 되는 컨테이너를 즉시 제거 요청 (GC 만료를 기다리지 않음)
+    void evictContainer(UUID functionId, ContainerInfo containerInfo);
+
+    /**
+     * [추가] Cold Start 대기 결과
+     * - stolen: 새 컨테이너가 아니라 다른 요청이 반납한 Warm 컨테이너를 먼저 받은 경우
+     *   (새 컨테이너는 Provisioner가 Cold Start 요청의 nonce를 붙여서 보냄)
+     */
+    record WaitedContainer(
+            ContainerInfo containerInfo,
+            boolean stolen
+    ) {}
+
+    // [추가] Provisioner가 컨테이너 생성 실패를 알려온 경우 (코드 패키지 없음, config.json 오류, Docker 실패 등)
+    class ProvisioningFailedException extends RuntimeException {
+        public ProvisioningFailedException(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExecutionHistoryPort {
+    /**
+     * [추가] 구간 [from, to) 의 함수별 요청 통계 (실행 로그 기준)
+     */
+    List<ArrivalStats> countArrivals(LocalDateTime from, LocalDateTime to);
+
+    record ArrivalStats(
+            UUID functionId,
+            long count,
+            long coldCount, // COLD + STOLEN
+            double avgDurationMs
+    ) {}
+}
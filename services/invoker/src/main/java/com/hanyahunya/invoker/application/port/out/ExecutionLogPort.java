@@ -3,5 +3,9 @@ package com.hanyahunya.invoker.application.port.out;
 import com.hanyahunya.invoker.domain.model.ExecutionLog;
 
 public interface ExecutionLogPort {
+    // 대기열이 가득 차면 overflow-policy에 따라 잠시 대기하거나 파일로 Spill할 수 있음
     void saveLog(ExecutionLog log);
+
+    // [추가] 막히지 않는 저장 시도 (대기열 적재 또는 정책상 버림) -> false면 saveLog로 다시 처리해야 함
+    boolean offerLog(ExecutionLog log);
 }
\ No newline at end of file
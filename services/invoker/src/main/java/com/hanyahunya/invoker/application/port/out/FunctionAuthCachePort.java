@@ -0,0 +1,8 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.util.UUID;
+
+public interface FunctionAuthCachePort {
+    // 특정 함수의 인증 캐시를 전부 제거
+    void evict(UUID functionId);
+}
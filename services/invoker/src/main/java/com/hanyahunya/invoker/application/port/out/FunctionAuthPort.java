@@ -7,6 +7,9 @@ public interface FunctionAuthPort {
 
     record Result(
             boolean isValid,
-            String s3Key
+            String s3Key,
+            int timeoutSeconds,
+            UUID ownerId, // 함수 소유자 (구버전 Registry는 null)
+            int resultCacheTtlSeconds // [추가] 결과 캐시 보관 시간 (0이면 캐시 안 함)
     ) {}
 }
@@ -0,0 +1,28 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public interface IdempotencyPort {
+    /**
+     * [추가] 멱등 키 선점 (없으면 실행 중 마커를 owner로 기록)
+     * - ACQUIRED: 선점 성공 -> 호출자가 실행
+     * - IN_PROGRESS: 다른 요청이 실행 중
+     * - COMPLETED: 완료된 결과 있음 (result)
+     */
+    Claim claim(UUID functionId, String key, String payloadHash, String owner, Duration pendingTtl);
+
+    // 실행 성공 -> 결과 보관 (owner가 일치할 때만)
+    void complete(UUID functionId, String key, String owner, byte[] result, Duration retention);
+
+    // 실행 실패 -> 마커 삭제 (재시도 시 다시 실행)
+    void release(UUID functionId, String key, String owner);
+
+    enum State {
+        ACQUIRED,
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    record Claim(State state, String payloadHash, byte[] result) {}
+}
@@ -0,0 +1,43 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import com.hanyahunya.invoker.domain.model.ExecutionType;
+
+public interface InvokeMetricsPort {
+    /**
+     * 호출 구간별 소요 시간 기록
+     * - executionType: 해당 요청의 컨테이너 확보 방식 (WARM / COLD / STOLEN)
+     */
+    void recordPhase(Phase phase, ExecutionType executionType, long durationNanos);
+
+    // [추가] 예측 기반 Pre-warm 요청 수
+    void recordPrewarmRequested(int containers);
+
+    // [추가] 예측 정확도 (구간이 끝난 뒤 실제 요청과 비교)
+    void recordForecast(ForecastOutcome outcome);
+
+    // [추가] 멱등 키 요청 처리 결과
+    void recordIdempotency(IdempotencyOutcome outcome);
+
+    enum IdempotencyOutcome {
+        EXECUTED,    // 처음 들어온 요청 -> 실행
+        ATTACHED,    // 같은 Invoker에서 실행 중인 요청에 합류
+        AWAITED,     // 다른 Invoker에서 실행 중 -> 완료까지 대기
+        REPLAYED,    // 보관된 결과 재전송
+        CONFLICT     // 같은 키, 다른 페이로드
+    }
+
+    enum ForecastOutcome {
+        HIT,                   // 예측한 구간에 실제 요청이 있었음
+        MISS,                  // 예측했지만 요청이 없었음
+        UNPREDICTED_COLD_START // 예측하지 못한 구간에서 Cold Start 발생
+    }
+
+    enum Phase {
+        AUTH,
+        POP_CONTAINER,
+        COLD_START_REQUEST,
+        WAIT_CONTAINER,
+        AGENT_EXECUTE,
+        CONTAINER_RETURN
+    }
+}
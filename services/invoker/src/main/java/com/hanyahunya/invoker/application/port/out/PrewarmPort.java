@@ -0,0 +1,17 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PrewarmPort {
+    // 여러 Invoker 중 한 곳만 예측/요청하도록 리더 확보 (이미 리더면 연장)
+    boolean tryLead(Duration ttl);
+
+    long countIdle(UUID functionId);
+
+    // 최근 Cold Start 요청에 사용된 코드 위치 (없으면 Pre-warm 불가)
+    Optional<String> findS3Key(UUID functionId);
+
+    void requestPrewarm(UUID functionId, String s3Key, int count);
+}
@@ -0,0 +1,18 @@
+package com.hanyahunya.invoker.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ResultCachePort {
+    /**
+     * [추가] 캐시 키 = hash(functionId, 정규화된 파라미터)
+     * - 코드는 함수 등록 시에만 올라가므로 functionId가 곧 코드 버전
+     * - JSON 파라미터는 키 순서와 공백을 정규화 (순서만 다른 같은 입력도 적중)
+     */
+    String keyOf(UUID functionId, byte[] payload);
+
+    Optional<byte[]> find(String key, Duration ttl);
+
+    void store(String key, byte[] result, Duration ttl);
+}
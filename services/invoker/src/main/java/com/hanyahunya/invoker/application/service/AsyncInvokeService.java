@@ -0,0 +1,139 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.in.AsyncInvokeUseCase;
+import com.hanyahunya.invoker.application.port.in.InvokeUseCase;
+import com.hanyahunya.invoker.application.port.out.AsyncInvocationPort;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthPort;
+import com.hanyahunya.invoker.common.exception.BusinessException;
+import com.hanyahunya.invoker.common.exception.PermissionDeniedException;
+import com.hanyahunya.invoker.domain.error.FunctionErrorCode;
+import com.hanyahunya.invoker.domain.model.AsyncInvocation;
+import com.hanyahunya.invoker.infra.config.AsyncInvokeProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+
+/**
+ * [추가] 비동기 실행
+ * - 요청은 인증만 확인한 뒤 대기열에 넣고 즉시 requestId 반환 (HTTP 연결/스레드를 실행 시간 동안 잡지 않음)
+ * - 고정 개수의 워커가 대기열을 소비하며 기존 동기 실행 경로(InvokeUseCase)를 그대로 사용
+ * - 상태/결과는 TTL과 함께 저장되어 GET /invoke/{requestId}로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncInvokeService implements AsyncInvokeUseCase {
+
+    private final InvokeUseCase invokeUseCase;
+    private final FunctionAuthPort functionAuthPort;
+    private final AsyncInvocationPort asyncInvocationPort;
+    private final AsyncInvokeProperties properties;
+
+    private BlockingQueue<Job> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private record Job(UUID requestId, InvokeUseCase.Command command) {}
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.add(Thread.ofVirtual().name("async-invoke-worker-" + i).start(this::runWorker));
+        }
+    }
+
+    @Override
+    public UUID submit(InvokeUseCase.Command command) {
+        // 잘못된 키는 대기열에 넣기 전에 바로 거절 (인증 결과는 캐시됨)
+        FunctionAuthPort.Result authResult = functionAuthPort.authenticateFunction(command.functionId(), command.accessKey());
+        if (!authResult.isValid()) {
+            throw new PermissionDeniedException(FunctionErrorCode.INVOKE_PERMISSION_DENIED);
+        }
+
+        UUID requestId = UUID.randomUUID();
+        AsyncInvocation invocation = AsyncInvocation.pending(requestId, command.functionId());
+        asyncInvocationPort.save(invocation);
+
+        if (!queue.offer(new Job(requestId, command))) {
+            asyncInvocationPort.save(invocation.failed(FunctionErrorCode.ASYNC_QUEUE_FULL.getMessage()));
+            throw new BusinessException(FunctionErrorCode.ASYNC_QUEUE_FULL);
+        }
+
+        log.debug("Async invoke queued. [ReqId: {}, FuncId: {}]", requestId, command.functionId());
+        return requestId;
+    }
+
+    @Override
+    public AsyncInvocation getResult(UUID requestId, String accessKey) {
+        AsyncInvocation invocation = asyncInvocationPort.find(requestId)
+                .orElseThrow(() -> new BusinessException(FunctionErrorCode.INVOCATION_NOT_FOUND));
+
+        // [추가] 결과는 함수 출력이므로 동기 호출과 같이 해당 함수의 Access Key 확인 (requestId만으로는 조회 불가)
+        FunctionAuthPort.Result authResult = functionAuthPort.authenticateFunction(invocation.functionId(), accessKey);
+        if (!authResult.isValid()) {
+            throw new PermissionDeniedException(FunctionErrorCode.INVOKE_PERMISSION_DENIED);
+        }
+        return invocation;
+    }
+
+    private void runWorker() {
+        while (running) {
+            Job job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            execute(job);
+        }
+    }
+
+    private void execute(Job job) {
+        AsyncInvocation invocation = AsyncInvocation.pending(job.requestId(), job.command().functionId());
+        try {
+            asyncInvocationPort.save(invocation.running());
+
+            InvokeUseCase.Result result = invokeUseCase.invoke(job.command()).join();
+            asyncInvocationPort.save(invocation.succeeded(new String(result.result(), StandardCharsets.UTF_8)));
+
+        } catch (Exception e) {
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            log.warn("Async invoke failed [ReqId: {}]: {}", job.requestId(), cause.getMessage());
+            try {
+                asyncInvocationPort.save(invocation.failed(cause.getMessage()));
+            } catch (Exception saveEx) {
+                log.error("Failed to save async result [ReqId: {}]: {}", job.requestId(), saveEx.getMessage());
+            }
+        }
+    }
+
+    // 종료 시 실행되지 못한 요청은 실패로 기록 (클라이언트가 무한히 PENDING을 보지 않도록)
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+
+        List<Job> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Job job : remaining) {
+            try {
+                asyncInvocationPort.save(AsyncInvocation.pending(job.requestId(), job.command().functionId())
+                        .failed("Invoker shutting down"));
+            } catch (Exception e) {
+                log.error("Failed to save async result [ReqId: {}]: {}", job.requestId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.in.BatchInvokeUseCase;
+import com.hanyahunya.invoker.application.port.out.AdmissionControlPort;
+import com.hanyahunya.invoker.application.port.out.AgentInvokePort;
+import com.hanyahunya.invoker.application.port.out.ExecutionLogPort;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort;
+import com.hanyahunya.invoker.common.exception.BusinessException;
+import com.hanyahunya.invoker.domain.error.FunctionErrorCode;
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import com.hanyahunya.invoker.domain.model.ExecutionLog;
+import com.hanyahunya.invoker.domain.model.ExecutionType;
+import com.hanyahunya.invoker.domain.model.FailureType;
+import com.hanyahunya.invoker.infra.config.BatchInvokeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * [추가] 배치 실행
+ * - (functionId, accessKey) 단위로 인증 1회
+ * - 함수별로 최대 parallelism 개의 컨테이너를 임대해서 항목들을 순서대로 흘려보냄 (항목당 Agent RPC 1회만 발생)
+ * - [변경] Warm 컨테이너가 부족하면 남은 항목 수만큼까지 Cold Start 요청 (최대 parallelism), 나머지 워커는 대기
+ * - 결과는 완료 순서와 무관하게 입력 순서대로 전달
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchInvokeService implements BatchInvokeUseCase {
+
+    private final FunctionAuthPort functionAuthPort;
+    private final ContainerAcquirer containerAcquirer;
+    private final AgentInvokePort agentInvokePort;
+    private final InvokeMetricsPort invokeMetricsPort;
+    private final ExecutionLogPort executionLogPort;
+    private final AdmissionControlPort admissionControlPort;
+    private final BatchInvokeProperties properties;
+
+    // Cold Start를 요청하지 못한 워커가 Warm 컨테이너 / Cold Start 자리를 다시 확인하는 주기
+    private static final long ACQUIRE_RETRY_MILLIS = 50;
+
+    private record GroupKey(UUID functionId, String accessKey) {}
+
+    @Override
+    public void invokeBatch(Command command, Consumer<ItemResult> consumer) {
+        List<Item> items = command.items();
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        if (items.size() > properties.maxItems()) {
+            throw new BusinessException(FunctionErrorCode.BATCH_TOO_LARGE);
+        }
+        int parallelism = Math.clamp(command.parallelism(), 1, properties.maxParallelism());
+
+        // 같은 함수 + 같은 키끼리 묶음 (입력 순서 유지)
+        Map<GroupKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            groups.computeIfAbsent(new GroupKey(item.functionId(), item.accessKey()), k -> new ArrayList<>()).add(i);
+        }
+
+        OrderedEmitter emitter = new OrderedEmitter(items.size(), consumer);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            groups.forEach((key, indices) -> executor.submit(() -> runGroup(key, indices, items, parallelism, emitter)));
+        }
+    }
+
+    private void runGroup(GroupKey key, List<Integer> indices, List<Item> items, int parallelism, OrderedEmitter emitter) {
+        UUID functionId = key.functionId();
+
+        // 1. 인증 (그룹당 1회)
+        FunctionAuthPort.Result authResult;
+        try {
+            authResult = functionAuthPort.authenticateFunction(functionId, key.accessKey());
+        } catch (Exception e) {
+            log.warn("Batch auth failed [{}]: {}", functionId, e.getMessage());
+            indices.forEach(index -> emitter.emit(failure(index, e.getMessage())));
+            return;
+        }
+        if (!authResult.isValid()) {
+            indices.forEach(index -> emitter.emit(failure(index, FunctionErrorCode.INVOKE_PERMISSION_DENIED.getMessage())));
+            return;
+        }
+
+        // 2. 컨테이너별 워커가 남은 항목을 하나씩 가져가서 실행
+        Queue<Integer> pending = new ConcurrentLinkedQueue<>(indices);
+        // 진행 중인 Cold Start 수 (남은 항목 수를 넘지 않도록)
+        AtomicInteger coldStarts = new AtomicInteger();
+        AtomicBoolean limited = new AtomicBoolean();
+        int workers = Math.min(parallelism, indices.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.submit(() -> runWorker(functionId, authResult, pending, coldStarts, limited, items, emitter));
+            }
+        }
+
+        // 실행 허가나 컨테이너를 확보하지 못해 남은 항목은 실패 처리
+        FunctionErrorCode reason = limited.get()
+                ? FunctionErrorCode.CONCURRENCY_LIMIT_EXCEEDED
+                : FunctionErrorCode.CONTAINER_INIT_TIMEOUT;
+        Integer index;
+        while ((index = pending.poll()) != null) {
+            emitter.emit(failure(index, reason.getMessage()));
+        }
+    }
+
+    private void runWorker(UUID functionId, FunctionAuthPort.Result authResult, Queue<Integer> pending,
+                           AtomicInteger coldStarts, AtomicBoolean limited, List<Item> items, OrderedEmitter emitter) {
+        // [추가] 워커(= 동시에 쓰는 컨테이너) 하나당 실행 허가 하나
+        Optional<AdmissionControlPort.Permit> permit = admissionControlPort.tryAcquire(functionId, authResult.ownerId());
+        if (permit.isEmpty()) {
+            limited.set(true);
+            return;
+        }
+
+        Duration timeout = ContainerAcquirer.executionTimeout(authResult);
+        ContainerAcquirer.Acquired lease = null;
+
+        try {
+            while (!pending.isEmpty() && !emitter.isAborted()) {
+                if (lease == null) {
+                    lease = acquire(functionId, authResult, pending, coldStarts, emitter);
+                    if (lease == null) {
+                        return;
+                    }
+                }
+
+                Integer index = pending.poll();
+                if (index == null) {
+                    break;
+                }
+
+                AgentInvokePort.AgentResponse response = executeItem(functionId, lease, items.get(index).payload(), timeout);
+                emitter.emit(response.success()
+                        ? new ItemResult(index, true, response.result(), null)
+                        : failure(index, response.errorMessage()));
+
+                // [변경] 사용자 코드 에러 / 일시적 통신 실패는 계속 사용, 그 외에는 제거 후 다음 항목은 새로 확보
+                lease = containerAcquirer.checkHealth(functionId, lease.containerInfo(), response.failureType())
+                        ? new ContainerAcquirer.Acquired(lease.containerInfo(), ExecutionType.WARM, 0)
+                        : null;
+            }
+        } finally {
+            if (lease != null) {
+                containerAcquirer.release(functionId, lease.containerInfo());
+            }
+            permit.get().release();
+        }
+    }
+
+    /**
+     * [변경] Warm 우선, 없으면 Cold Start (진행 중인 Cold Start가 남은 항목 수보다 적을 때만)
+     * - 자리가 없으면 종료하지 않고 대기 -> 남은 항목이 있는 동안 Warm 컨테이너 / Cold Start 자리를 다시 확인
+     * @return 확보하지 못했거나 남은 항목이 없으면 null
+     */
+    private ContainerAcquirer.Acquired acquire(UUID functionId, FunctionAuthPort.Result authResult, Queue<Integer> pending,
+                                               AtomicInteger coldStarts, OrderedEmitter emitter) {
+        while (!pending.isEmpty() && !emitter.isAborted()) {
+            Optional<ContainerInfo> warm = containerAcquirer.tryWarm(functionId);
+            if (warm.isPresent()) {
+                return new ContainerAcquirer.Acquired(warm.get(), ExecutionType.WARM, 0);
+            }
+            if (tryReserveColdStart(coldStarts, pending)) {
+                try {
+                    return containerAcquirer.coldStart(functionId, authResult);
+                } catch (BusinessException e) {
+                    log.warn("Batch cold start failed [{}]: {}", functionId, e.getMessage());
+                    return null;
+                } finally {
+                    coldStarts.decrementAndGet();
+                }
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(ACQUIRE_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // 남은 항목보다 많은 컨테이너를 만들지 않음 (워커 수가 parallelism 이하이므로 최대 parallelism)
+    private static boolean tryReserveColdStart(AtomicInteger coldStarts, Queue<Integer> pending) {
+        while (true) {
+            int current = coldStarts.get();
+            if (current >= pending.size()) {
+                return false;
+            }
+            if (coldStarts.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private AgentInvokePort.AgentResponse executeItem(UUID functionId, ContainerAcquirer.Acquired lease, byte[] payload, Duration timeout) {
+        long startProcessingTime = System.currentTimeMillis();
+        LocalDateTime requestTime = LocalDateTime.now();
+        UUID requestId = UUID.randomUUID();
+        ContainerInfo containerInfo = lease.containerInfo();
+
+        AgentInvokePort.AgentResponse response;
+        long executeStart = System.nanoTime();
+        try {
+            response = agentInvokePort.executeFunction(
+                    containerInfo.agentIp(),
+                    containerInfo.sockPath(),
+                    payload,
+                    requestId,
+                    timeout
+            ).join();
+        } catch (Exception e) {
+            response = AgentInvokePort.AgentResponse.failure(e.getMessage(), FailureType.TRANSPORT);
+        }
+        invokeMetricsPort.recordPhase(InvokeMetricsPort.Phase.AGENT_EXECUTE, lease.executionType(), System.nanoTime() - executeStart);
+
+        try {
+            executionLogPort.saveLog(ExecutionLog.builder()
+                    .id(requestId)
+                    .functionId(functionId)
+                    .requestStartTime(requestTime)
+                    .success(response.success())
+                    .memoryUsage(response.memoryUsage())
+                    .durationMs(response.durationMs())
+                    .totalProcessingTimeMs(System.currentTimeMillis() - startProcessingTime)
+                    .logS3Key(response.logS3Key())
+                    .executionType(lease.executionType())
+                    .coldStartDurationMs(lease.coldStartDurationMs())
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to save batch execution log [ReqId: {}]: {}", requestId, e.getMessage());
+        }
+        return response;
+    }
+
+    private ItemResult failure(int index, String errorMessage) {
+        return new ItemResult(index, false, null, errorMessage);
+    }
+
+    /**
+     * 입력 순서대로 결과 전달 (앞 항목이 끝날 때까지 뒤 항목 결과는 보관)
+     * - consumer 실패(스트리밍 중 클라이언트 연결 끊김 등) 시 남은 항목 실행 중단
+     */
+    private static class OrderedEmitter {
+        private final ItemResult[] results;
+        private final Consumer<ItemResult> consumer;
+        private final ReentrantLock lock = new ReentrantLock();
+        private int next = 0;
+        private volatile boolean aborted = false;
+
+        OrderedEmitter(int size, Consumer<ItemResult> consumer) {
+            this.results = new ItemResult[size];
+            this.consumer = consumer;
+        }
+
+        void emit(ItemResult result) {
+            lock.lock();
+            try {
+                if (aborted) {
+                    return;
+                }
+                results[result.index()] = result;
+                while (next < results.length && results[next] != null) {
+                    consumer.accept(results[next]);
+                    results[next] = null;
+                    next++;
+                }
+            } catch (RuntimeException e) {
+                aborted = true;
+                log.warn("Batch result consumer failed: {}", e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isAborted() {
+            return aborted;
+        }
+    }
+}
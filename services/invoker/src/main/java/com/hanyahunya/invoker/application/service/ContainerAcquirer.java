@@ -0,0 +1,132 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.out.ContainerPoolPort;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort.Phase;
+import com.hanyahunya.invoker.common.exception.BusinessException;
+import com.hanyahunya.invoker.domain.error.FunctionErrorCode;
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import com.hanyahunya.invoker.domain.model.ExecutionType;
+import com.hanyahunya.invoker.domain.model.FailureType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [추가] 컨테이너 확보 (Warm 우선, 없으면 Cold Start 요청 후 대기)
+ * - 단건 호출(InvokeService)과 배치 호출(BatchInvokeService)이 공통으로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContainerAcquirer {
+
+    // Registry가 timeout을 내려주지 않는 경우(구버전 등) 적용할 기본 실행 제한 시간
+    private static final int DEFAULT_TIMEOUT_SECONDS = 300;
+
+    private final ContainerPoolPort containerPoolPort;
+    private final ContainerHealthTracker healthTracker;
+    private final InvokeMetricsPort invokeMetricsPort;
+
+    public record Acquired(
+            ContainerInfo containerInfo,
+            ExecutionType executionType,
+            long coldStartDurationMs
+    ) {}
+
+    public Acquired acquire(UUID functionId, FunctionAuthPort.Result authResult) {
+        long popStart = System.nanoTime();
+        Optional<ContainerInfo> warm = containerPoolPort.popContainer(functionId);
+        long popNanos = System.nanoTime() - popStart;
+
+        if (warm.isPresent()) {
+            invokeMetricsPort.recordPhase(Phase.POP_CONTAINER, ExecutionType.WARM, popNanos);
+            return new Acquired(warm.get(), ExecutionType.WARM, 0);
+        }
+
+        Acquired acquired = coldStart(functionId, authResult);
+        invokeMetricsPort.recordPhase(Phase.POP_CONTAINER, acquired.executionType(), popNanos);
+        return acquired;
+    }
+
+    public Optional<ContainerInfo> tryWarm(UUID functionId) {
+        long popStart = System.nanoTime();
+        Optional<ContainerInfo> warm = containerPoolPort.popContainer(functionId);
+        if (warm.isPresent()) {
+            invokeMetricsPort.recordPhase(Phase.POP_CONTAINER, ExecutionType.WARM, System.nanoTime() - popStart);
+        }
+        return warm;
+    }
+
+    public Acquired coldStart(UUID functionId, FunctionAuthPort.Result authResult) {
+        log.debug("Cold Start initiated for [{}]", functionId);
+
+        long requestStart = System.nanoTime();
+        String requestId = containerPoolPort.requestContainerCreation(functionId, authResult.s3Key());
+        long waitStart = System.nanoTime();
+
+        Optional<ContainerPoolPort.WaitedContainer> waited;
+        try {
+            waited = containerPoolPort.waitContainer(functionId, requestId);
+        } catch (ContainerPoolPort.ProvisioningFailedException e) {
+            // [추가] 생성 실패는 3분 타임아웃까지 기다리지 않고 바로 실패 응답
+            log.warn("Container provisioning failed [{}]: {}", functionId, e.getMessage());
+            // [추가] 다른 요청의 실패로 함께 끝난 경우(영구 실패) 내 요청은 아직 대기열에 있을 수 있음 -> 만들지 않도록 취소
+            containerPoolPort.cancelContainerCreation(requestId);
+            throw new BusinessException(FunctionErrorCode.CONTAINER_PROVISION_FAILED);
+        }
+        long waitEnd = System.nanoTime();
+
+        // [추가] 그 사이 반납된 Warm 컨테이너를 받았으면 STOLEN
+        ExecutionType executionType = waited.filter(ContainerPoolPort.WaitedContainer::stolen).isPresent()
+                ? ExecutionType.STOLEN
+                : ExecutionType.COLD;
+        invokeMetricsPort.recordPhase(Phase.COLD_START_REQUEST, executionType, waitStart - requestStart);
+        invokeMetricsPort.recordPhase(Phase.WAIT_CONTAINER, executionType, waitEnd - waitStart);
+
+        // [추가] 타임아웃 / Stolen -> 요청한 컨테이너가 더 이상 필요 없음 (Provisioner가 아직 꺼내지 않았으면 건너뜀)
+        // - 이미 만들기 시작했다면 잉여 컨테이너가 됨 -> Provisioner가 provisioner.cold_start.surplus로 집계
+        if (waited.isEmpty() || executionType == ExecutionType.STOLEN) {
+            containerPoolPort.cancelContainerCreation(requestId);
+        }
+
+        ContainerInfo containerInfo = waited
+                .map(ContainerPoolPort.WaitedContainer::containerInfo)
+                .orElseThrow(() -> {
+                    log.debug("Container timeout: [{}]", functionId);
+                    return new BusinessException(FunctionErrorCode.CONTAINER_INIT_TIMEOUT);
+                });
+
+        return new Acquired(containerInfo, executionType, TimeUnit.NANOSECONDS.toMillis(waitEnd - requestStart));
+    }
+
+    public void release(UUID functionId, ContainerInfo containerInfo) {
+        containerPoolPort.returnContainer(functionId, containerInfo);
+    }
+
+    /**
+     * [추가] 실행 결과 반영
+     * @return 계속 사용해도 되면 true, 아니면 즉시 제거 요청 후 false
+     */
+    public boolean checkHealth(UUID functionId, ContainerInfo containerInfo, FailureType failureType) {
+        if (healthTracker.record(containerInfo, failureType)) {
+            return true;
+        }
+        log.warn("Evicting unhealthy container [{}] {} (cause: {})", functionId, containerInfo.sockPath(), failureType);
+        containerPoolPort.evictContainer(functionId, containerInfo);
+        return false;
+    }
+
+    // 함수에 설정된 timeout (Agent 호출 gRPC Deadline으로 적용)
+    public static Duration executionTimeout(FunctionAuthPort.Result authResult) {
+        return Duration.ofSeconds(
+                authResult.timeoutSeconds() > 0 ? authResult.timeoutSeconds() : DEFAULT_TIMEOUT_SECONDS
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import com.hanyahunya.invoker.domain.model.FailureType;
+import com.hanyahunya.invoker.infra.config.ContainerHealthProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [추가] 컨테이너별 연속 실패 추적 (Circuit Breaker)
+ * - 사용자 코드 에러는 컨테이너 문제가 아니므로 재사용
+ * - 타임아웃 / 취소: 컨테이너가 아직 이전 요청을 처리 중일 수 있으므로 즉시 제거
+ * - 통신 실패: 일시적일 수 있으므로 재사용하되, failureWindow 안에 failureThreshold 번 연속이면 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class ContainerHealthTracker {
+
+    private final ContainerHealthProperties properties;
+
+    // Key: 컨테이너, Value: 연속 통신 실패 기록
+    private final Map<ContainerInfo, Failures> failures = new ConcurrentHashMap<>();
+
+    /**
+     * @return 계속 사용해도 되면 true, 제거해야 하면 false
+     */
+    public boolean record(ContainerInfo containerInfo, FailureType failureType) {
+        return switch (failureType) {
+            case NONE, FUNCTION_ERROR -> {
+                failures.remove(containerInfo);
+                yield true;
+            }
+            case TIMEOUT, CANCELLED -> {
+                failures.remove(containerInfo);
+                yield false;
+            }
+            case TRANSPORT -> {
+                long now = System.nanoTime();
+                Failures updated = failures.compute(containerInfo, (key, previous) ->
+                        (previous == null || previous.isExpired(now, properties.failureWindow().toNanos()))
+                                ? new Failures(1, now)
+                                : new Failures(previous.count() + 1, now));
+                if (updated.count() >= properties.failureThreshold()) {
+                    failures.remove(containerInfo);
+                    yield false;
+                }
+                yield true;
+            }
+        };
+    }
+
+    // 이후 사용되지 않은 컨테이너(GC로 정리된 경우 등)의 기록 정리
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        failures.values().removeIf(record -> record.isExpired(now, properties.failureWindow().toNanos()));
+    }
+
+    private record Failures(int count, long lastFailureAt) {
+        boolean isExpired(long now, long windowNanos) {
+            return now - lastFailureAt > windowNanos;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.in.FunctionChangeUseCase;
+import com.hanyahunya.invoker.application.port.out.FunctionAuthCachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FunctionChangeService implements FunctionChangeUseCase {
+
+    private final FunctionAuthCachePort functionAuthCachePort;
+
+    @Override
+    public void handleFunctionChanged(UUID functionId) {
+        functionAuthCachePort.evict(functionId);
+        log.debug("Function cache evicted: [{}]", functionId);
+    }
+}
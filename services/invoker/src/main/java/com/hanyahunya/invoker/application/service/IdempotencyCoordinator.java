@@ -0,0 +1,195 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.in.InvokeUseCase.Result;
+import com.hanyahunya.invoker.application.port.out.IdempotencyPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort.IdempotencyOutcome;
+import com.hanyahunya.invoker.common.exception.BusinessException;
+import com.hanyahunya.invoker.domain.error.FunctionErrorCode;
+import com.hanyahunya.invoker.infra.config.IdempotencyProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * [추가] Idempotency-Key 기반 중복 실행 제거 (클라이언트 재시도가 Cold Start 폭주로 이어지지 않도록)
+ * - 같은 Invoker에서 실행 중: 원래 실행의 Future에 합류 (Single-flight)
+ * - 다른 Invoker에서 실행 중: Redis 마커가 완료될 때까지 대기 (마커가 만료되면 이어서 실행)
+ * - 완료됨: 보관된 결과를 그대로 재전송 (retention 동안)
+ * - 실패한 실행은 보관하지 않음 -> 재시도 시 다시 실행
+ * - 합류한 요청이 끊겨도 원래 실행은 취소하지 않음 (다음 재시도가 결과를 받아가도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCoordinator {
+
+    private final IdempotencyPort idempotencyPort;
+    private final IdempotencyProperties properties;
+    private final InvokeMetricsPort invokeMetricsPort;
+
+    // Key: functionId:idempotencyKey, Value: 이 Invoker에서 실행 중인 요청
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    // Redis 상태 갱신 / 다른 Invoker 실행 대기 (gRPC 콜백 스레드를 막지 않도록)
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private record InFlight(String payloadHash, CompletableFuture<Result> future) {}
+
+    /**
+     * @param timeout   함수 실행 제한 시간 (실행 중 마커 TTL 계산용)
+     * @param execution 실제 실행 (선점한 경우에만 호출)
+     */
+    public CompletableFuture<Result> execute(UUID functionId, String key, byte[] payload, Duration timeout,
+                                             Supplier<CompletableFuture<Result>> execution) {
+        if (!properties.enabled()) {
+            return execution.get();
+        }
+        validate(key);
+
+        String payloadHash = hash(payload);
+        String scope = functionId + ":" + key;
+
+        InFlight mine = new InFlight(payloadHash, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(scope, mine);
+        if (existing != null) {
+            checkPayload(existing.payloadHash(), payloadHash);
+            invokeMetricsPort.recordIdempotency(IdempotencyOutcome.ATTACHED);
+            // 합류한 요청의 취소가 원래 실행으로 전파되지 않도록 복사본 반환
+            return existing.future().copy();
+        }
+        mine.future().whenComplete((result, ex) -> inFlight.remove(scope, mine));
+
+        try {
+            resolve(functionId, key, payloadHash, timeout, execution, mine.future());
+        } catch (RuntimeException e) {
+            // 동기 실패(권한/동시 실행 제한 등)는 합류한 요청에도 같은 에러로 전달하고 호출자에게는 그대로 던짐
+            mine.future().completeExceptionally(e);
+            throw e;
+        }
+        return mine.future().copy();
+    }
+
+    private void resolve(UUID functionId, String key, String payloadHash, Duration timeout,
+                         Supplier<CompletableFuture<Result>> execution, CompletableFuture<Result> target) {
+        String owner = UUID.randomUUID().toString();
+        Duration pendingTtl = timeout.plus(properties.pendingGrace());
+
+        IdempotencyPort.Claim claim = idempotencyPort.claim(functionId, key, payloadHash, owner, pendingTtl);
+        if (claim.state() != IdempotencyPort.State.ACQUIRED) {
+            checkPayload(claim.payloadHash(), payloadHash);
+        }
+
+        switch (claim.state()) {
+            case ACQUIRED -> {
+                invokeMetricsPort.recordIdempotency(IdempotencyOutcome.EXECUTED);
+                run(functionId, key, owner, execution, target);
+            }
+            case COMPLETED -> {
+                invokeMetricsPort.recordIdempotency(IdempotencyOutcome.REPLAYED);
+                target.complete(new Result(claim.result()));
+            }
+            case IN_PROGRESS -> {
+                invokeMetricsPort.recordIdempotency(IdempotencyOutcome.AWAITED);
+                executor.execute(() -> awaitRemote(functionId, key, payloadHash, owner, pendingTtl, execution, target));
+            }
+        }
+    }
+
+    private void run(UUID functionId, String key, String owner,
+                     Supplier<CompletableFuture<Result>> execution, CompletableFuture<Result> target) {
+        CompletableFuture<Result> result;
+        try {
+            result = execution.get();
+        } catch (RuntimeException e) {
+            executor.execute(() -> idempotencyPort.release(functionId, key, owner));
+            throw e;
+        }
+
+        result.whenComplete((value, ex) -> {
+            // 응답을 먼저 돌려주고 Redis 갱신은 뒤에서 (그 사이 재시도는 PENDING을 보고 대기)
+            if (ex == null) {
+                target.complete(value);
+            } else {
+                target.completeExceptionally(ex);
+            }
+
+            executor.execute(() -> {
+                if (ex == null && value.result().length <= properties.maxResultSize().toBytes()) {
+                    idempotencyPort.complete(functionId, key, owner, value.result(), properties.retention());
+                } else {
+                    idempotencyPort.release(functionId, key, owner);
+                }
+            });
+        });
+    }
+
+    // 다른 Invoker의 실행 완료 대기 (실패/Invoker 장애로 마커가 사라지면 여기서 이어서 실행)
+    private void awaitRemote(UUID functionId, String key, String payloadHash, String owner, Duration pendingTtl,
+                             Supplier<CompletableFuture<Result>> execution, CompletableFuture<Result> target) {
+        try {
+            while (!target.isDone()) {
+                Thread.sleep(properties.pollInterval().toMillis());
+
+                IdempotencyPort.Claim claim = idempotencyPort.claim(functionId, key, payloadHash, owner, pendingTtl);
+                switch (claim.state()) {
+                    case ACQUIRED -> {
+                        run(functionId, key, owner, execution, target);
+                        return;
+                    }
+                    case COMPLETED -> {
+                        checkPayload(claim.payloadHash(), payloadHash);
+                        target.complete(new Result(claim.result()));
+                        return;
+                    }
+                    case IN_PROGRESS -> { }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            target.cancel(false);
+        } catch (RuntimeException e) {
+            target.completeExceptionally(e);
+        }
+    }
+
+    private void validate(String key) {
+        if (key.isBlank() || key.length() > properties.maxKeyLength()
+                || !key.chars().allMatch(c -> c > 0x20 && c < 0x7f)) {
+            throw new BusinessException(FunctionErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    private void checkPayload(String stored, String requested) {
+        if (!stored.equals(requested)) {
+            invokeMetricsPort.recordIdempotency(IdempotencyOutcome.CONFLICT);
+            throw new BusinessException(FunctionErrorCode.IDEMPOTENCY_KEY_CONFLICT);
+        }
+    }
+
+    private static String hash(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
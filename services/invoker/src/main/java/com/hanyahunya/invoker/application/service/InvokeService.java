@@ -8,13 +8,17 @@ import com.hanyahunya.invoker.common.exception.PermissionDeniedException;
 import com.hanyahunya.invoker.domain.model.ContainerInfo;
 import com.hanyahunya.invoker.domain.model.ExecutionLog;
 import com.hanyahunya.invoker.domain.model.ExecutionType;
+import com.hanyahunya.invoker.domain.model.FailureType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -24,15 +28,66 @@ import java.util.concurrent.Executors;
 public class InvokeService implements InvokeUseCase {
 
     private final FunctionAuthPort functionAuthPort;
-    private final ContainerPoolPort containerPoolPort;
+    private final ContainerAcquirer containerAcquirer;
     private final AgentInvokePort agentInvokePort;
     private final ExecutionLogPort executionLogPort;
+    private final AdmissionControlPort admissionControlPort;
+    private final InvokeMetricsPort invokeMetricsPort;
+    private final ResultCachePort resultCachePort;
+    private final IdempotencyCoordinator idempotencyCoordinator;
 
     // [변경] I/O 블로킹 없는 처리를 위해 가상 스레드 익스큐터 사용 (Java 21+)
     private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Override
-    public Result invoke(Command command) {
+    public CompletableFuture<Result> invoke(Command command) {
+        return invoke(command, null);
+    }
+
+    @Override
+    public CompletableFuture<Result> invoke(Command command, String idempotencyKey) {
+        return execute(command, true, idempotencyKey, (containerInfo, requestId, timeout) -> agentInvokePort.executeFunction(
+                containerInfo.agentIp(),
+                containerInfo.sockPath(),
+                command.payload(),
+                requestId,
+                timeout
+        ));
+    }
+
+    // [추가] 스트리밍 실행: 출력/로그 조각은 handler로 바로 전달되고, Future는 실행 종료 시 완료 (result는 비어 있음)
+    @Override
+    public CompletableFuture<Result> invokeStream(Command command, StreamHandler handler) {
+        AgentInvokePort.StreamListener listener = new AgentInvokePort.StreamListener() {
+            @Override
+            public void onOutput(byte[] chunk) {
+                handler.onOutput(chunk);
+            }
+
+            @Override
+            public void onLog(String line) {
+                handler.onLog(line);
+            }
+        };
+
+        // 스트리밍 출력은 캐시하지 않음
+        return execute(command, false, null, (containerInfo, requestId, timeout) -> agentInvokePort.executeFunctionStream(
+                containerInfo.agentIp(),
+                containerInfo.sockPath(),
+                command.payload(),
+                requestId,
+                timeout,
+                listener
+        ));
+    }
+
+    // 컨테이너 확보 이후 Agent 호출 방식 (단건 / 스트리밍)
+    @FunctionalInterface
+    private interface AgentCall {
+        CompletableFuture<AgentInvokePort.AgentResponse> call(ContainerInfo containerInfo, UUID requestId, Duration timeout);
+    }
+
+    private CompletableFuture<Result> execute(Command command, boolean cacheable, String idempotencyKey, AgentCall agentCall) {
         long startProcessingTime = System.currentTimeMillis();
         LocalDateTime requestTime = LocalDateTime.now();
 
@@ -41,95 +96,177 @@ public class InvokeService implements InvokeUseCase {
         log.debug("Invoke requested. [ReqId: {}, FuncId: {}]", requestId, functionId);
 
         // 1. 권한 검증
+        long authStart = System.nanoTime();
         FunctionAuthPort.Result authResult = functionAuthPort.authenticateFunction(
                 functionId,
                 command.accessKey()
         );
+        long authNanos = System.nanoTime() - authStart;
 
         if (!authResult.isValid()) {
             throw new PermissionDeniedException(FunctionErrorCode.INVOKE_PERMISSION_DENIED);
         }
 
-        // 2. 컨테이너 확보
-        ContainerInfo containerInfo;
-        ExecutionType executionType;
-        long coldStartDuration = 0;
+        // [추가] 멱등 키는 인증 이후에 확인 (다른 사용자가 키만으로 결과를 받아가지 않도록)
+        if (idempotencyKey == null) {
+            return executeAuthorized(command, cacheable, agentCall, authResult, authNanos, requestId, requestTime, startProcessingTime);
+        }
+        return idempotencyCoordinator.execute(
+                functionId,
+                idempotencyKey,
+                command.payload(),
+                ContainerAcquirer.executionTimeout(authResult),
+                () -> executeAuthorized(command, cacheable, agentCall, authResult, authNanos, requestId, requestTime, startProcessingTime)
+        );
+    }
+
+    // 인증 이후 실행 (결과 캐시 -> 동시 실행 제한 -> 컨테이너 확보 -> Agent 호출)
+    private CompletableFuture<Result> executeAuthorized(Command command, boolean cacheable, AgentCall agentCall,
+                                                        FunctionAuthPort.Result authResult, long authNanos,
+                                                        UUID requestId, LocalDateTime requestTime, long startProcessingTime) {
+        UUID functionId = command.functionId();
 
-        Optional<ContainerInfo> optionalContainerInfo = containerPoolPort.popContainer(functionId);
+        // [추가] 결과 캐시 (설정한 함수만, 적중 시 동시 실행 제한/컨테이너 확보/Agent 호출 모두 생략)
+        Duration cacheTtl = Duration.ofSeconds(authResult.resultCacheTtlSeconds());
+        String cacheKey = (cacheable && authResult.resultCacheTtlSeconds() > 0)
+                ? resultCachePort.keyOf(functionId, command.payload())
+                : null;
+        if (cacheKey != null) {
+            Optional<byte[]> cached = resultCachePort.find(cacheKey, cacheTtl);
+            if (cached.isPresent()) {
+                invokeMetricsPort.recordPhase(InvokeMetricsPort.Phase.AUTH, ExecutionType.CACHED, authNanos);
+                saveCachedLog(requestId, functionId, requestTime, startProcessingTime);
+                return CompletableFuture.completedFuture(new Result(cached.get()));
+            }
+        }
 
-        if (optionalContainerInfo.isPresent()) {
-            executionType = ExecutionType.WARM;
-            containerInfo = optionalContainerInfo.get();
-        } else {
-            executionType = ExecutionType.COLD;
-            String s3Key = authResult.s3Key();
-            log.debug("Cold Start initiated for [{}]", functionId);
+        // [추가] 동시 실행 제한 (컨테이너 확보/Cold Start 요청 전에 429로 거절)
+        AdmissionControlPort.Permit permit = admissionControlPort.tryAcquire(functionId, authResult.ownerId())
+                .orElseThrow(() -> new BusinessException(FunctionErrorCode.CONCURRENCY_LIMIT_EXCEEDED));
 
-            long coldStartStart = System.currentTimeMillis();
-            containerPoolPort.requestContainerCreation(functionId, s3Key);
+        ContainerInfo containerInfo;
+        ExecutionType executionType;
+        long coldStartDuration;
+        CompletableFuture<AgentInvokePort.AgentResponse> execution;
+        try {
+            // 2. 컨테이너 확보
+            ContainerAcquirer.Acquired acquired = containerAcquirer.acquire(functionId, authResult);
+            containerInfo = acquired.containerInfo();
+            executionType = acquired.executionType();
+            coldStartDuration = acquired.coldStartDurationMs();
+            // [추가] 인증 구간은 확보 방식이 정해진 뒤에 기록 (WARM/COLD/STOLEN별 비교용)
+            invokeMetricsPort.recordPhase(InvokeMetricsPort.Phase.AUTH, executionType, authNanos);
 
-            containerInfo = containerPoolPort.waitContainer(functionId)
-                    .orElseThrow(() -> {
-                        log.debug("Container timeout: [{}]", functionId);
-                        return new BusinessException(FunctionErrorCode.CONTAINER_INIT_TIMEOUT);
-                    });
+            // 3. Agent 실행 요청 (여기까지는 동기, 실행은 비동기)
+            // [변경] 함수에 설정된 timeout을 gRPC Deadline으로 적용
+            Duration timeout = ContainerAcquirer.executionTimeout(authResult);
 
-            coldStartDuration = System.currentTimeMillis() - coldStartStart;
+            long executeStart = System.nanoTime();
+            execution = agentCall.call(containerInfo, requestId, timeout);
+            ExecutionType acquiredType = executionType;
+            execution.whenComplete((response, ex) ->
+                    invokeMetricsPort.recordPhase(InvokeMetricsPort.Phase.AGENT_EXECUTE, acquiredType, System.nanoTime() - executeStart));
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
         }
 
-        // 3. Agent 실행 요청 (여기까지는 동기)
-        AgentInvokePort.AgentResponse response = agentInvokePort.executeFunction(
-                containerInfo.agentIp(),
-                containerInfo.sockPath(),
-                command.params(),
-                requestId
-        );
-
-        long totalDuration = System.currentTimeMillis() - startProcessingTime;
+        // 실행이 끝나면(성공/실패/취소 모두) 허가 반납
+        execution.whenComplete((response, ex) -> permit.release());
 
         // -------------------------------------------------------------------------
         // [핵심 변경] "Redis 반납" -> "DB 저장" 순서로 백그라운드 처리 (Fire-and-Forget)
         // -------------------------------------------------------------------------
 
-        // 람다 내부에서 사용하기 위해 final 변수 할당
-        final ContainerInfo finalContainerInfo = containerInfo;
-        final long finalColdStartDuration = coldStartDuration;
+        execution.whenComplete((agentResponse, ex) -> {
+            long totalDuration = System.currentTimeMillis() - startProcessingTime;
+            // [추가] 취소/스트림 소비 실패 등으로 응답 없이 끝난 경우 -> 컨테이너 상태를 알 수 없으므로 제거 대상
+            AgentInvokePort.AgentResponse response = (ex == null)
+                    ? agentResponse
+                    : AgentInvokePort.AgentResponse.failure(ex.getMessage(), FailureType.CANCELLED);
 
-        asyncExecutor.submit(() -> {
-            try {
-                // [1순위] Redis에 컨테이너 반납 (가장 중요: 다른 요청이 바로 쓸 수 있도록)
-                if (response.success()) {
-                    containerPoolPort.returnContainer(functionId, finalContainerInfo);
+            asyncExecutor.submit(() -> {
+                try {
+                    // [1순위] Redis에 컨테이너 반납 (가장 중요: 다른 요청이 바로 쓸 수 있도록)
+                    // [변경] 실패 원인에 따라 반납 / 즉시 제거 (사용자 코드 에러, 일시적 통신 실패는 반납)
+                    if (containerAcquirer.checkHealth(functionId, containerInfo, response.failureType())) {
+                        long returnStart = System.nanoTime();
+                        containerAcquirer.release(functionId, containerInfo);
+                        invokeMetricsPort.recordPhase(InvokeMetricsPort.Phase.CONTAINER_RETURN, executionType, System.nanoTime() - returnStart);
+                    }
+
+                    // [추가] 성공한 결과만 캐시
+                    if (cacheKey != null && response.success()) {
+                        resultCachePort.store(cacheKey, response.result(), cacheTtl);
+                    }
+                } catch (Exception e) {
+                    // 백그라운드 작업 실패는 메인 로직(응답)에 영향 주지 않음, 로그만 남김
+                    log.error("Async cleanup failed [ReqId: {}]: {}", requestId, e.getMessage());
                 }
+            });
 
-                // [2순위] 실행 로그 저장 (비동기)
-                ExecutionLog executionLog = ExecutionLog.builder()
-                        .id(requestId)
-                        .functionId(functionId)
-                        .requestStartTime(requestTime)
-                        .success(response.success())
-                        .memoryUsage(response.memoryUsage())
-                        .durationMs(response.durationMs())
-                        .totalProcessingTimeMs(totalDuration)
-                        .logS3Key(response.logS3Key())
-                        .executionType(executionType)
-                        .coldStartDurationMs(finalColdStartDuration)
-                        .build();
-
-                executionLogPort.saveLog(executionLog);
-
-            } catch (Exception e) {
-                // 백그라운드 작업 실패는 메인 로직(응답)에 영향 주지 않음, 로그만 남김
-                log.error("Async cleanup failed [ReqId: {}]: {}", requestId, e.getMessage());
-            }
+            // [2순위] 실행 로그 저장
+            saveLog(requestId, ExecutionLog.builder()
+                    .id(requestId)
+                    .functionId(functionId)
+                    .requestStartTime(requestTime)
+                    .success(response.success())
+                    .memoryUsage(response.memoryUsage())
+                    .durationMs(response.durationMs())
+                    .totalProcessingTimeMs(totalDuration)
+                    .logS3Key(response.logS3Key())
+                    .executionType(executionType)
+                    .coldStartDurationMs(coldStartDuration)
+                    .build());
         });
 
-        // 4. 즉시 결과 반환 (사용자 대기 시간 최소화)
-        if (response.success()) {
-            return new Result(response.result());
-        } else {
+        // 4. 실행 완료 시 결과 반환 (사용자 대기 시간 최소화)
+        CompletableFuture<Result> result = execution.thenApply(response -> {
+            if (response.success()) {
+                return new Result(response.result());
+            }
             log.error("Execution Failed: {}", response.errorMessage());
             throw new RuntimeException("Function execution failed: " + response.errorMessage());
+        });
+
+        // [추가] 호출자가 결과를 취소하면 Agent 실행까지 취소 전파
+        result.whenComplete((r, ex) -> {
+            if (ex instanceof CancellationException) {
+                execution.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    private void saveCachedLog(UUID requestId, UUID functionId, LocalDateTime requestTime, long startProcessingTime) {
+        long totalDuration = System.currentTimeMillis() - startProcessingTime;
+        saveLog(requestId, ExecutionLog.builder()
+                .id(requestId)
+                .functionId(functionId)
+                .requestStartTime(requestTime)
+                .success(true)
+                .totalProcessingTimeMs(totalDuration)
+                .executionType(ExecutionType.CACHED)
+                .build());
+    }
+
+    // [변경] gRPC 콜백 스레드에서 호출됨 -> 대기열에 바로 들어가거나 버려지는 경우만 여기서 끝냄
+    // 대기열이 가득 차 대기(BLOCK, 실패 로그)나 Spill(파일 I/O)이 필요하면 asyncExecutor로 넘김
+    private void saveLog(UUID requestId, ExecutionLog executionLog) {
+        try {
+            if (executionLogPort.offerLog(executionLog)) {
+                return;
+            }
+            asyncExecutor.submit(() -> {
+                try {
+                    executionLogPort.saveLog(executionLog);
+                } catch (Exception e) {
+                    log.error("Failed to save execution log [ReqId: {}]: {}", requestId, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to save execution log [ReqId: {}]: {}", requestId, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package com.hanyahunya.invoker.application.service;
+
+import com.hanyahunya.invoker.application.port.out.ExecutionHistoryPort;
+import com.hanyahunya.invoker.application.port.out.ExecutionHistoryPort.ArrivalStats;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort;
+import com.hanyahunya.invoker.application.port.out.InvokeMetricsPort.ForecastOutcome;
+import com.hanyahunya.invoker.application.port.out.PrewarmPort;
+import com.hanyahunya.invoker.infra.config.PrewarmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * [추가] 실행 로그 기반 Pre-warm 예측기 (1분 단위, 리더 Invoker 한 곳에서만 실행)
+ * - 예측 구간 = 지금부터 leadTime 뒤의 1분
+ * - 지난 며칠 같은 시각(시간대 패턴) / 지난 몇 시간 같은 분(매시 반복되는 cron성 버스트)에 요청이 있었던 비율이 minConfidence 이상이면 수요 예측
+ * - 필요 컨테이너 수 = 과거 구간 평균 (요청 수 x 평균 실행 시간 / 구간 길이), 이미 대기 중인 컨테이너 수만큼은 제외
+ * - 구간이 끝나면 실제 요청과 비교해서 정확도 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrewarmForecaster {
+
+    private static final Duration BUCKET = Duration.ofMinutes(1);
+    // 실행 로그는 배치로 저장되므로 구간이 끝나고 조금 뒤에 평가
+    private static final Duration EVALUATION_DELAY = Duration.ofMinutes(1);
+    // 리더가 죽으면 다른 Invoker가 이어받도록 주기보다 약간 길게
+    private static final Duration LEADER_TTL = Duration.ofSeconds(90);
+
+    private final PrewarmProperties properties;
+    private final ExecutionHistoryPort executionHistoryPort;
+    private final PrewarmPort prewarmPort;
+    private final InvokeMetricsPort invokeMetricsPort;
+
+    // 평가 대기 중인 예측 (스케줄러 스레드에서만 접근)
+    private final Deque<Forecast> pendingEvaluations = new ArrayDeque<>();
+
+    private record Forecast(LocalDateTime bucketStart, Set<UUID> functionIds) {}
+
+    @Scheduled(cron = "0 * * * * *")
+    public void run() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            if (!prewarmPort.tryLead(LEADER_TTL)) {
+                // 리더가 바뀌면 이전 예측은 평가하지 않음
+                pendingEvaluations.clear();
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            evaluate(now);
+            forecast(now);
+        } catch (Exception e) {
+            log.error("Prewarm forecast failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void forecast(LocalDateTime now) {
+        LocalDateTime bucketStart = now.plus(properties.leadTime());
+
+        Map<UUID, Integer> predicted = new HashMap<>(estimate(bucketStart, Duration.ofDays(1), properties.dailyLookbackDays()));
+        estimate(bucketStart, Duration.ofHours(1), properties.hourlyLookbackHours())
+                .forEach((functionId, containers) -> predicted.merge(functionId, containers, Math::max));
+
+        // 예측이 없는 구간도 평가 (예측하지 못한 Cold Start 집계)
+        pendingEvaluations.addLast(new Forecast(bucketStart, predicted.keySet()));
+        if (predicted.isEmpty()) {
+            return;
+        }
+
+        // 직전 1분 동안 Cold Start 없이 처리된 함수는 이미 Warm 컨테이너가 충분함
+        Map<UUID, ArrivalStats> recent = arrivals(now.minus(BUCKET), now);
+
+        predicted.forEach((functionId, containers) -> {
+            ArrivalStats last = recent.get(functionId);
+            if (last != null && last.coldCount() == 0) {
+                return;
+            }
+            long missing = containers - prewarmPort.countIdle(functionId);
+            if (missing <= 0) {
+                return;
+            }
+            prewarmPort.findS3Key(functionId).ifPresent(s3Key -> {
+                log.info("Prewarming [{}]: {} container(s) for {}", functionId, missing, bucketStart);
+                prewarmPort.requestPrewarm(functionId, s3Key, (int) missing);
+                invokeMetricsPort.recordPrewarmRequested((int) missing);
+            });
+        });
+    }
+
+    /**
+     * period 간격으로 lookback 번 거슬러 올라가며 같은 구간을 집계
+     * @return 수요가 예측된 함수별 필요 컨테이너 수
+     */
+    private Map<UUID, Integer> estimate(LocalDateTime bucketStart, Duration period, int lookback) {
+        if (lookback <= 0) {
+            return Map.of();
+        }
+
+        Map<UUID, Integer> activePeriods = new HashMap<>();
+        Map<UUID, Double> concurrencySum = new HashMap<>();
+        for (int k = 1; k <= lookback; k++) {
+            LocalDateTime from = bucketStart.minus(period.multipliedBy(k));
+            for (ArrivalStats stats : executionHistoryPort.countArrivals(from, from.plus(BUCKET))) {
+                activePeriods.merge(stats.functionId(), 1, Integer::sum);
+                // Little's Law: 평균 동시 실행 수 = 도착률 x 평균 실행 시간
+                double concurrency = stats.count() * stats.avgDurationMs() / BUCKET.toMillis();
+                concurrencySum.merge(stats.functionId(), concurrency, Double::sum);
+            }
+        }
+
+        Map<UUID, Integer> result = new HashMap<>();
+        activePeriods.forEach((functionId, active) -> {
+            if ((double) active / lookback < properties.minConfidence()) {
+                return;
+            }
+            int containers = (int) Math.ceil(concurrencySum.get(functionId) / active);
+            result.put(functionId, Math.clamp(containers, 1, properties.maxContainersPerFunction()));
+        });
+        return result;
+    }
+
+    private void evaluate(LocalDateTime now) {
+        while (!pendingEvaluations.isEmpty()
+                && !pendingEvaluations.peekFirst().bucketStart().plus(BUCKET).plus(EVALUATION_DELAY).isAfter(now)) {
+            Forecast forecast = pendingEvaluations.pollFirst();
+            Map<UUID, ArrivalStats> actual = arrivals(forecast.bucketStart(), forecast.bucketStart().plus(BUCKET));
+
+            forecast.functionIds().forEach(functionId ->
+                    invokeMetricsPort.recordForecast(actual.containsKey(functionId) ? ForecastOutcome.HIT : ForecastOutcome.MISS));
+            actual.values().stream()
+                    .filter(stats -> stats.coldCount() > 0 && !forecast.functionIds().contains(stats.functionId()))
+                    .forEach(stats -> invokeMetricsPort.recordForecast(ForecastOutcome.UNPREDICTED_COLD_START));
+        }
+    }
+
+    private Map<UUID, ArrivalStats> arrivals(LocalDateTime from, LocalDateTime to) {
+        return executionHistoryPort.countArrivals(from, to).stream()
+                .collect(Collectors.toMap(ArrivalStats::functionId, Function.identity()));
+    }
+}
@@ -12,7 +12,14 @@ public enum FunctionErrorCode implements ErrorCode {
     FUNCTION_NOT_FOUND(HttpStatus.NOT_FOUND, "F-001", "존재하지 않는 함수입니다."),
     INVOKE_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "F-002", "함수 실행 권한이 없습니다."),
     QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "F-003", "실행 할당량을 초과했습니다."),
-    CONTAINER_INIT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "F-004", "컨테이너 초기화 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+    CONTAINER_INIT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "F-004", "컨테이너 초기화 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    ASYNC_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "F-005", "비동기 실행 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    INVOCATION_NOT_FOUND(HttpStatus.NOT_FOUND, "F-006", "실행 요청을 찾을 수 없습니다. (만료되었거나 존재하지 않음)"),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "F-007", "배치 항목 수가 허용 범위를 초과했습니다."),
+    CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "F-008", "동시 실행 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "F-009", "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_CONFLICT(HttpStatus.UNPROCESSABLE_ENTITY, "F-010", "같은 Idempotency-Key로 다른 요청이 이미 처리되었습니다."),
+    CONTAINER_PROVISION_FAILED(HttpStatus.BAD_GATEWAY, "F-011", "컨테이너 생성에 실패했습니다. 함수 코드와 설정을 확인해주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,30 @@
+package com.hanyahunya.invoker.domain.model;
+
+import java.util.UUID;
+
+/**
+ * [추가] 비동기 실행 요청의 상태 및 결과 (TTL 동안만 보관)
+ */
+public record AsyncInvocation(
+        UUID requestId,
+        UUID functionId,
+        AsyncInvocationStatus status,
+        String result,
+        String errorMessage
+) {
+    public static AsyncInvocation pending(UUID requestId, UUID functionId) {
+        return new AsyncInvocation(requestId, functionId, AsyncInvocationStatus.PENDING, null, null);
+    }
+
+    public AsyncInvocation running() {
+        return new AsyncInvocation(requestId, functionId, AsyncInvocationStatus.RUNNING, null, null);
+    }
+
+    public AsyncInvocation succeeded(String result) {
+        return new AsyncInvocation(requestId, functionId, AsyncInvocationStatus.SUCCEEDED, result, null);
+    }
+
+    public AsyncInvocation failed(String errorMessage) {
+        return new AsyncInvocation(requestId, functionId, AsyncInvocationStatus.FAILED, null, errorMessage);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hanyahunya.invoker.domain.model;
+
+public enum AsyncInvocationStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
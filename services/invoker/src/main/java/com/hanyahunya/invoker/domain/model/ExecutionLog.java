@@ -2,6 +2,7 @@ package com.hanyahunya.invoker.domain.model;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
@@ -12,9 +13,12 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized // [추가] Spill 파일 재적재 시 역직렬화용
 // functionId로 검색하고, 최신순으로 정렬하기위해 복합인덱스 추가
 @CompoundIndexes({
-        @CompoundIndex(name = "function_time_idx", def = "{'functionId': 1, 'requestStartTime': -1}")
+        @CompoundIndex(name = "function_time_idx", def = "{'functionId': 1, 'requestStartTime': -1}"),
+        // [추가] 시간 구간 전체 집계용 (Pre-warm 예측)
+        @CompoundIndex(name = "request_time_idx", def = "{'requestStartTime': 1}")
 })
 @Document(collection = "execution_logs")
 public class ExecutionLog {
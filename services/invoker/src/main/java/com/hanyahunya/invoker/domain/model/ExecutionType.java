@@ -2,5 +2,7 @@ package com.hanyahunya.invoker.domain.model;
 
 public enum ExecutionType {
     COLD,
-    WARM
+    WARM,
+    STOLEN, // [추가] Cold Start를 요청했지만 그 사이 반납된 Warm 컨테이너를 먼저 받은 경우
+    CACHED  // [추가] 결과 캐시에서 응답 (컨테이너/Agent 미사용)
 }
@@ -0,0 +1,12 @@
+package com.hanyahunya.invoker.domain.model;
+
+/**
+ * [추가] 실행 실패 원인 (컨테이너 재사용 여부 판단용)
+ */
+public enum FailureType {
+    NONE,           // 성공
+    FUNCTION_ERROR, // 사용자 코드 에러 (컨테이너는 정상)
+    TIMEOUT,        // 제한 시간 초과 (컨테이너가 아직 실행 중이거나 멈췄을 수 있음)
+    CANCELLED,      // 호출자가 취소 (컨테이너 상태를 알 수 없음)
+    TRANSPORT       // Agent 통신 실패 (일시적일 수 있음)
+}
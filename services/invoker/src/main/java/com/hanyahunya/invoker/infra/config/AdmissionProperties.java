@@ -0,0 +1,29 @@
+package com.hanyahunya.invoker.infra.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+// [변경] 잘못된 값(0 이하)은 기동 시점에 실패 -> 토큰 버킷 스크립트 오류를 "Redis 장애"로 보고 통과시키는 일 방지
+@Validated
+@ConfigurationProperties(prefix = "invoker.admission")
+public record AdmissionProperties(
+        boolean enabled,
+        int maxInFlightPerFunction,
+        int maxInFlightPerOwner,
+        Duration queueTimeout,
+        @Valid Cluster cluster
+) {
+    /**
+     * Redis 토큰 버킷 (모든 Invoker가 공유하는 초당 실행 한도)
+     */
+    public record Cluster(
+            boolean enabled,
+            @Positive int ratePerSecond,
+            @Positive int burst,
+            @Positive int prefetch
+    ) {}
+}
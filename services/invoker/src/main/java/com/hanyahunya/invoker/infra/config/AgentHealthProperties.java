@@ -0,0 +1,13 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.agent-health")
+public record AgentHealthProperties(
+        int failureThreshold,
+        Duration downTtl,
+        // [추가] 이 시간 넘게 차단 중이거나 호출이 없던 Agent는 상태를 지움
+        Duration forgetAfter
+) {}
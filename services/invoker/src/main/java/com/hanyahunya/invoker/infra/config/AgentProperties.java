@@ -0,0 +1,17 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.agent")
+public record AgentProperties(
+        // [추가] 요청 gzip 압축 (Agent에 gzip 해제기가 등록된 경우에만 켬)
+        boolean compressionEnabled,
+        DataSize compressionThreshold,
+        // [추가] input_payload_raw로 전송 (false면 구버전 Agent가 읽는 input_payload(string)로 전송)
+        boolean payloadBytesEnabled,
+        int channelsPerAgent,       // [추가] Agent당 gRPC 채널(HTTP/2 커넥션) 수
+        Duration channelIdleTimeout // [추가] 이 시간 동안 호출이 없는 Agent의 채널은 정리
+) {}
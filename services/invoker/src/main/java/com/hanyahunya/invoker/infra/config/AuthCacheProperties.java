@@ -0,0 +1,12 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.auth-cache")
+public record AuthCacheProperties(
+        long maxSize,
+        Duration ttl,
+        Duration negativeTtl
+) {}
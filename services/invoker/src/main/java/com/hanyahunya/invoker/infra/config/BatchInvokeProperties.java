@@ -0,0 +1,9 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "invoker.batch")
+public record BatchInvokeProperties(
+        int maxItems,
+        int maxParallelism
+) {}
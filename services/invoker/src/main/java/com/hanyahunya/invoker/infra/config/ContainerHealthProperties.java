@@ -0,0 +1,11 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.container-health")
+public record ContainerHealthProperties(
+        int failureThreshold,
+        Duration failureWindow
+) {}
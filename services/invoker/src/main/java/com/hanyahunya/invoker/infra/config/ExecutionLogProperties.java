@@ -0,0 +1,23 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.execution-log")
+public record ExecutionLogProperties(
+        int queueCapacity,
+        int batchSize,
+        Duration flushInterval,
+        OverflowPolicy overflowPolicy,
+        Duration blockTimeout,      // [추가] BLOCK / DROP_SUCCESS(실패 로그)의 최대 대기 시간 (초과 시 버림)
+        Path spillFile
+) {
+    // 대기열이 가득 찼을 때의 처리 방식
+    public enum OverflowPolicy {
+        BLOCK,          // 자리가 날 때까지 blockTimeout 동안 대기
+        DROP_SUCCESS,   // 성공 로그는 버리고 실패 로그만 blockTimeout 동안 대기
+        SPILL           // 로컬 파일에 기록 후 여유가 생기면 재적재
+    }
+}
@@ -0,0 +1,16 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.idempotency")
+public record IdempotencyProperties(
+        boolean enabled,
+        Duration retention,      // 완료된 결과 재전송 기간
+        Duration pendingGrace,   // 실행 중 마커 TTL = 함수 timeout + 이 값 (Invoker가 죽어도 마커가 남지 않도록)
+        Duration pollInterval,   // 다른 Invoker에서 실행 중일 때 완료 확인 주기
+        DataSize maxResultSize,  // 이보다 큰 결과는 보관하지 않음 (재시도 시 다시 실행)
+        int maxKeyLength
+) {}
@@ -0,0 +1,15 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.local-pool")
+public record LocalPoolProperties(
+        boolean enabled,
+        Duration idleTimeout,
+        int maxPerFunction,
+        int maxTotal,
+        double heapSpillRatio,
+        Duration leaseRefreshInterval
+) {}
@@ -0,0 +1,15 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.prewarm")
+public record PrewarmProperties(
+        boolean enabled,
+        Duration leadTime,
+        int dailyLookbackDays,
+        int hourlyLookbackHours,
+        double minConfidence,
+        int maxContainersPerFunction
+) {}
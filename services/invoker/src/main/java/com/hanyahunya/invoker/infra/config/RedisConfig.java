@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import redis.clients.jedis.JedisPoolConfig;
@@ -26,6 +27,14 @@ public class RedisConfig {
         return template;
     }
 
+    // [추가] Pub/Sub 구독용 컨테이너 (구독 채널은 각 리스너가 직접 등록)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
+
     @Bean
     public JedisClientConfigurationBuilderCustomizer jedisClientConfigurationBuilderCustomizer() {
         return builder -> builder.usePooling().poolConfig(jedisPoolConfig());
@@ -34,11 +43,11 @@ public class RedisConfig {
     private JedisPoolConfig jedisPoolConfig() {
         JedisPoolConfig config = new JedisPoolConfig();
 
-        // 동시 요청 2000개까지는 버티도록 설정 (가상 스레드라 충분함)
-        config.setMaxTotal(2000);
+        // [변경] Cold Start 대기가 커넥션을 점유하지 않으므로(ContainerWaiterRegistry) 짧은 명령용으로만 사용
+        config.setMaxTotal(256);
 
         // 평소에도 어느 정도 열어둘지 (너무 적으면 갑자기 몰릴 때 커넥션 맺느라 느려짐)
-        config.setMaxIdle(500);
+        config.setMaxIdle(64);
         config.setMinIdle(0);
 
         config.setMaxWait(Duration.ofMillis(5000));
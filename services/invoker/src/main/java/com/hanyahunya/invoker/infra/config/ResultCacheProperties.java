@@ -0,0 +1,15 @@
+package com.hanyahunya.invoker.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "invoker.result-cache")
+public record ResultCacheProperties(
+        boolean enabled,
+        DataSize localMaxSize,   // 로컬 캐시 전체 크기 상한 (LRU)
+        Duration localTtl,       // 로컬 보관 최대 시간 (함수 설정이 더 짧으면 그 값)
+        DataSize maxResultSize,  // 이보다 큰 결과는 캐시하지 않음
+        boolean redisEnabled     // Invoker 간 공유 (Redis)
+) {}
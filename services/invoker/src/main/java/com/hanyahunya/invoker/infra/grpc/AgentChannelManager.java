@@ -1,32 +1,117 @@
 package com.hanyahunya.invoker.infra.grpc;
 
+import com.hanyahunya.invoker.infra.config.AgentProperties;
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * [변경] Agent당 채널 1개 -> 채널 N개 풀
+ * - HTTP/2 커넥션 하나의 max-concurrent-streams 한도에 묶이지 않도록 커넥션을 나눔
+ * - 호출마다 진행 중인 스트림이 가장 적은 채널 선택 (연결 실패 중인 채널은 건너뜀)
+ * - channelIdleTimeout 동안 호출이 없는 Agent(호스트 제거 등)의 채널은 정리
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AgentChannelManager {
 
-    // Key: Agent IP, Value: gRPC Channel
-    private final Map<String, ManagedChannel> channelCache = new ConcurrentHashMap<>();
+    private final AgentProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Key: Agent IP, Value: 채널 풀
+    private final Map<String, ChannelPool> pools = new ConcurrentHashMap<>();
+
+    // 채널 상태 변화 구독자 (AgentHealthTracker)
+    private final List<StateListener> stateListeners = new CopyOnWriteArrayList<>();
 
     private static final int AGENT_PORT = 9094;
 
-    public ManagedChannel getChannel(String agentIp) {
-        return channelCache.computeIfAbsent(agentIp, this::createChannel);
+    @FunctionalInterface
+    public interface StateListener {
+        // state: Agent의 채널들을 합친 상태 (하나라도 READY면 READY, 모두 TRANSIENT_FAILURE면 TRANSIENT_FAILURE)
+        void onStateChanged(String agentIp, ConnectivityState state);
     }
 
-    private ManagedChannel createChannel(String ip) {
-        log.info("Creating new gRPC Channel for Agent: {}", ip);
+    public void addStateListener(StateListener listener) {
+        stateListeners.add(listener);
+    }
+
+    /**
+     * 호출 1건에 사용할 채널 선택 (호출이 끝나면 반드시 release)
+     */
+    public PooledChannel acquire(String agentIp) {
+        while (true) {
+            ChannelPool pool = pools.computeIfAbsent(agentIp, this::createPool);
+            PooledChannel channel = pool.select();
+            channel.inFlight.incrementAndGet();
+            // 정리 중인 풀이면 반납 후 새 풀에서 다시 선택
+            if (!pool.closing) {
+                pool.lastUsedAt = System.nanoTime();
+                return channel;
+            }
+            channel.release();
+        }
+    }
+
+    /**
+     * Agent의 채널 상태 (requestConnection = true 이면 IDLE 채널의 연결을 시도함)
+     */
+    public ConnectivityState getState(String agentIp, boolean requestConnection) {
+        return pools.computeIfAbsent(agentIp, this::createPool).state(requestConnection);
+    }
+
+    /**
+     * Agent 복구 시 재연결 대기(Exponential Backoff)를 건너뛰고 바로 재연결
+     */
+    public void resetConnectBackoff(String agentIp) {
+        ChannelPool pool = pools.get(agentIp);
+        if (pool != null) {
+            for (PooledChannel channel : pool.channels) {
+                channel.channel.resetConnectBackoff();
+            }
+        }
+    }
+
+    private ChannelPool createPool(String ip) {
+        int size = Math.max(1, properties.channelsPerAgent());
+        log.info("Creating gRPC Channel pool for Agent: {} (channels: {})", ip, size);
 
+        PooledChannel[] channels = new PooledChannel[size];
+        for (int i = 0; i < size; i++) {
+            channels[i] = new PooledChannel(createChannel(ip));
+            channels[i].gauge = Gauge.builder("invoker.agent.channel.in_flight", channels[i].inFlight, AtomicInteger::get)
+                    .description("In-flight calls per agent channel")
+                    .tag("agent", ip)
+                    .tag("channel", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+
+        ChannelPool pool = new ChannelPool(ip, channels);
+        for (PooledChannel channel : channels) {
+            watchState(pool, channel.channel);
+        }
+        return pool;
+    }
+
+    private ManagedChannel createChannel(String ip) {
         // dns:/// 붙여서 서비스 디스커버리를 우회하고 강제로 IP/DNS 연결을 시도 <- eureka 떄문
+        // 연결이 끊기면 gRPC 내장 Exponential Backoff로 재연결 (그동안 select()는 다른 채널 사용)
         return ManagedChannelBuilder.forTarget("dns:///" + ip + ":" + AGENT_PORT)
                 .usePlaintext()
                 .keepAliveTime(30, TimeUnit.SECONDS)
@@ -34,14 +119,138 @@ public class AgentChannelManager {
                 .build();
     }
 
+    private void watchState(ChannelPool pool, ManagedChannel channel) {
+        ConnectivityState current = channel.getState(false);
+        if (current == ConnectivityState.SHUTDOWN) {
+            return;
+        }
+        ConnectivityState aggregated = pool.state(false);
+        for (StateListener listener : stateListeners) {
+            try {
+                listener.onStateChanged(pool.agentIp, aggregated);
+            } catch (Exception e) {
+                log.warn("Channel state listener failed [{}]: {}", pool.agentIp, e.getMessage());
+            }
+        }
+        channel.notifyWhenStateChanged(current, () -> watchState(pool, channel));
+    }
+
+    // 오래 쓰지 않은 Agent의 채널 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long idleBefore = System.nanoTime() - properties.channelIdleTimeout().toNanos();
+        pools.forEach((agentIp, pool) -> {
+            if (pool.lastUsedAt - idleBefore > 0) {
+                return;
+            }
+            // closing을 먼저 세운 뒤 진행 중인 호출 확인 (acquire는 반대 순서) -> 둘 중 하나는 반드시 상대를 봄
+            pool.closing = true;
+            if (pool.inFlight() > 0) {
+                pool.closing = false;
+                return;
+            }
+            log.info("Evicting idle gRPC Channel pool for Agent: {}", agentIp);
+            // 같은 태그로 새 풀의 Gauge가 등록될 수 있으므로 풀을 빼기 전에 먼저 제거
+            removeGauges(pool);
+            pools.remove(agentIp, pool);
+            shutdown(pool);
+        });
+    }
+
+    private void removeGauges(ChannelPool pool) {
+        for (PooledChannel channel : pool.channels) {
+            meterRegistry.remove(channel.gauge);
+        }
+    }
+
+    private void shutdown(ChannelPool pool) {
+        for (PooledChannel channel : pool.channels) {
+            if (!channel.channel.isShutdown()) {
+                channel.channel.shutdown();
+            }
+        }
+    }
+
     // 서버 종료시 모든채널정리
     @PreDestroy
     public void closeAllChannels() {
         log.info("Closing all Agent gRPC channels...");
-        for (ManagedChannel channel : channelCache.values()) {
-            if (channel != null && !channel.isShutdown()) {
-                channel.shutdown();
+        pools.values().forEach(this::shutdown);
+    }
+
+    public static class PooledChannel {
+        private final ManagedChannel channel;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private Gauge gauge;
+
+        private PooledChannel(ManagedChannel channel) {
+            this.channel = channel;
+        }
+
+        public ManagedChannel channel() {
+            return channel;
+        }
+
+        public void release() {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static class ChannelPool {
+        private final String agentIp;
+        private final PooledChannel[] channels;
+        private volatile long lastUsedAt = System.nanoTime();
+        private volatile boolean closing = false;
+
+        ChannelPool(String agentIp, PooledChannel[] channels) {
+            this.agentIp = agentIp;
+            this.channels = channels;
+        }
+
+        // 진행 중인 스트림이 가장 적은 채널 (시작 위치를 랜덤으로 해서 동률일 때 한 채널에 몰리지 않음)
+        PooledChannel select() {
+            int start = ThreadLocalRandom.current().nextInt(channels.length);
+            PooledChannel best = null;
+            PooledChannel fallback = null;
+            for (int i = 0; i < channels.length; i++) {
+                PooledChannel candidate = channels[(start + i) % channels.length];
+                if (fallback == null || candidate.inFlight.get() < fallback.inFlight.get()) {
+                    fallback = candidate;
+                }
+                if (candidate.channel.getState(false) == ConnectivityState.TRANSIENT_FAILURE) {
+                    continue;
+                }
+                if (best == null || candidate.inFlight.get() < best.inFlight.get()) {
+                    best = candidate;
+                }
+            }
+            // 모두 연결 실패 중이면 그중 가장 한가한 채널 (호출 실패는 AgentHealthTracker가 집계)
+            return (best != null) ? best : fallback;
+        }
+
+        int inFlight() {
+            int total = 0;
+            for (PooledChannel channel : channels) {
+                total += channel.inFlight.get();
+            }
+            return total;
+        }
+
+        ConnectivityState state(boolean requestConnection) {
+            boolean connecting = false;
+            boolean allFailed = true;
+            for (PooledChannel channel : channels) {
+                ConnectivityState state = channel.channel.getState(requestConnection);
+                if (state == ConnectivityState.READY) {
+                    return ConnectivityState.READY;
+                }
+                connecting |= (state == ConnectivityState.CONNECTING);
+                allFailed &= (state == ConnectivityState.TRANSIENT_FAILURE);
+            }
+            if (connecting) {
+                return ConnectivityState.CONNECTING;
             }
+            return allFailed ? ConnectivityState.TRANSIENT_FAILURE : ConnectivityState.IDLE;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+-- [Idempotency] 멱등 키 선점 또는 현재 상태 조회
+-- KEYS[1]: invoke:idem:{functionId}:{key} (hash: state, payload, owner, result)
+-- ARGV[1]: 요청 페이로드 해시
+-- ARGV[2]: 선점할 owner
+-- ARGV[3]: 실행 중 마커 TTL (ms)
+-- 반환: {state, payload hash, result(base64)}  state = ACQUIRED | PENDING | DONE
+local entry = redis.call('HMGET', KEYS[1], 'state', 'payload', 'result')
+
+if not entry[1] then
+    redis.call('HSET', KEYS[1], 'state', 'PENDING', 'payload', ARGV[1], 'owner', ARGV[2])
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+    return {'ACQUIRED', ARGV[1], ''}
+end
+
+return {entry[1], entry[2] or '', entry[3] or ''}
@@ -0,0 +1,15 @@
+-- [Evict] 문제가 생긴 컨테이너를 대기열에서 빼고 Provisioner에 즉시 제거 요청 (왕복 1회)
+-- KEYS[1]: func:idle:{functionId}
+-- KEYS[2]: prov:gc:container
+-- ARGV[1]: ContainerInfo JSON
+-- ARGV[2]: GC 멤버 (functionId:instanceId:agentIp)
+-- ARGV[3]: 현재 시각 (epoch ms)
+-- ARGV[4]: 제거 요청 채널 (prov:container:remove)
+redis.call('LREM', KEYS[1], 0, ARGV[1])
+
+-- 알림이 유실되어도 다음 GC 주기에 주인 Provisioner가 정리하도록 만료 시각을 지금으로 당김
+-- XX: GC가 이미 정리한 멤버는 되살리지 않음
+redis.call('ZADD', KEYS[2], 'XX', ARGV[3], ARGV[2])
+
+redis.call('PUBLISH', ARGV[4], ARGV[2])
+return 1
@@ -0,0 +1,20 @@
+-- [Idempotency] 실행 종료 처리 (선점한 owner만 가능 -> 마커 만료 후 다른 요청이 다시 선점한 경우 덮어쓰지 않음)
+-- KEYS[1]: invoke:idem:{functionId}:{key}
+-- ARGV[1]: owner
+-- ARGV[2]: DONE (결과 보관) | FAILED (마커 삭제 -> 재시도 시 다시 실행)
+-- ARGV[3]: 결과 (base64)
+-- ARGV[4]: 결과 보관 기간 (ms)
+-- 반환: 처리했으면 1
+if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+    return 0
+end
+
+if ARGV[2] ~= 'DONE' then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+redis.call('HSET', KEYS[1], 'state', 'DONE', 'result', ARGV[3])
+redis.call('HDEL', KEYS[1], 'owner')
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return 1
@@ -0,0 +1,36 @@
+-- [Pop + Lease] 대기 컨테이너를 꺼내면서 GC 만료 시각을 같이 연장 (왕복 1회)
+-- 실행 중인 컨테이너가 GC에 의해 정리되지 않도록 임대(Lease) 기간만큼 만료를 미룸
+-- [추가] 장애 Agent(agent:down)의 컨테이너는 꺼내서 버리고 다음 컨테이너를 확인 (Provisioner GC가 정리)
+-- KEYS[1]: func:idle:{functionId}
+-- KEYS[2]: prov:gc:container
+-- KEYS[3]: agent:down
+-- ARGV[1]: functionId
+-- ARGV[2]: 임대 만료 시각 (epoch ms)
+-- ARGV[3]: 현재 시각 (epoch ms)
+local MAX_SKIP = 16
+local now = tonumber(ARGV[3])
+
+for _ = 1, MAX_SKIP do
+    local value = redis.call('LPOP', KEYS[1])
+    if not value then
+        return false
+    end
+
+    local ok, info = pcall(cjson.decode, value)
+    if not (ok and type(info) == 'table' and type(info.sockPath) == 'string' and type(info.agentIp) == 'string') then
+        return value
+    end
+
+    local downUntil = tonumber(redis.call('ZSCORE', KEYS[3], info.agentIp))
+    if not downUntil or downUntil <= now then
+        -- sockPath: instances/{functionId}/{instanceId}/sock/function.sock
+        local instanceId = string.match(info.sockPath, '^[^/]+/[^/]+/([^/]+)/')
+        if instanceId then
+            -- XX: GC가 이미 정리한 멤버는 되살리지 않음
+            redis.call('ZADD', KEYS[2], 'XX', ARGV[2], ARGV[1] .. ':' .. instanceId .. ':' .. info.agentIp)
+        end
+        return value
+    end
+end
+
+return false
@@ -0,0 +1,20 @@
+-- [Power of Two Choices] 두 후보 큐의 길이를 비교하고 더 짧은 큐에 생성 요청을 적재 (왕복 1회)
+-- KEYS[1]: func:request:queue:{slotA}
+-- KEYS[2]: func:request:queue:{slotB}
+-- KEYS[3]: func:s3key:{functionId}
+-- ARGV[1]: ColdStartRequest JSON
+-- ARGV[2]: s3Key
+-- ARGV[3]: s3Key 보관 기간 (초)
+local lenA = redis.call('LLEN', KEYS[1])
+local lenB = redis.call('LLEN', KEYS[2])
+
+local target = KEYS[1]
+if lenB < lenA then
+    target = KEYS[2]
+end
+
+redis.call('RPUSH', target, ARGV[1])
+
+-- [추가] Pre-warm 예측기가 같은 코드로 컨테이너를 요청할 수 있도록 최근 s3Key 보관
+redis.call('SET', KEYS[3], ARGV[2], 'EX', ARGV[3])
+return target
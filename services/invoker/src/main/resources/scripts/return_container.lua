@@ -0,0 +1,21 @@
+-- [Return + Heartbeat] 컨테이너 반납과 GC 만료 시각 갱신을 한 번에 처리 (왕복 1회)
+-- KEYS[1]: func:idle:{functionId}
+-- KEYS[2]: prov:gc:container
+-- KEYS[3]: func:waiting:{functionId}
+-- ARGV[1]: ContainerInfo JSON
+-- ARGV[2]: GC 멤버 (functionId:instanceId:agentIp), 빈 문자열이면 갱신 생략
+-- ARGV[3]: 만료 시각 (epoch ms)
+-- ARGV[4]: 알림 채널 (func:idle:notify)
+-- ARGV[5]: functionId
+redis.call('RPUSH', KEYS[1], ARGV[1])
+
+if ARGV[2] ~= '' then
+    redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+end
+
+-- 이 함수의 컨테이너를 기다리는 Invoker가 있을 때만 알림 (평상시 Warm 반납은 PUBLISH 없음)
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('PUBLISH', ARGV[4], ARGV[5])
+end
+
+return 1
@@ -0,0 +1,33 @@
+-- [Token Bucket] 버킷에서 토큰을 최대 ARGV[3]개까지 한 번에 가져감 (Invoker가 로컬에 모아두고 소진)
+-- KEYS[1]: admission:bucket:{func|owner}:{id} (hash: tokens, ts)
+-- ARGV[1]: 초당 충전량
+-- ARGV[2]: 최대 토큰 수 (burst)
+-- ARGV[3]: 요청 토큰 수
+-- 반환: 실제로 가져간 토큰 수 (0이면 한도 초과)
+local rate = tonumber(ARGV[1])
+local burst = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- [추가] 충전량이 0 이하면 TTL 계산이 inf/NaN -> PEXPIRE 오류가 "Redis 장애"로 처리되어 통과됨 -> 충전 없이 거부
+if not rate or rate <= 0 or not burst or burst <= 0 then
+    return 0
+end
+
+-- Invoker 간 시계 차이를 피하기 위해 Redis 서버 시각 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or burst
+local ts = tonumber(bucket[2]) or now
+
+tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+-- 가득 찰 때까지 걸리는 시간이 지나면 버킷 자체가 필요 없음
+redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate * 1000) + 1000)
+
+return granted
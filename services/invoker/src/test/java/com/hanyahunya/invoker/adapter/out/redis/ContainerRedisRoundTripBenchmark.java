@@ -0,0 +1,262 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.invoker.domain.model.ContainerInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [추가] 호출 1건당 Redis 왕복 횟수 비교 (기존 개별 명령 vs Lua 스크립트)
+ * 실제 Redis가 필요하므로 -Dbenchmark.redis.host=localhost 지정 시에만 실행
+ */
+@EnabledIfSystemProperty(named = "benchmark.redis.host", matches = ".+")
+class ContainerRedisRoundTripBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ContainerRedisRoundTripBenchmark.class);
+
+    private static final String IDLE_QUEUE_PREFIX = "func:idle:";
+    private static final String REQUEST_QUEUE_PREFIX = "func:request:queue:";
+    private static final String GC_CONTAINER_KEY = "prov:gc:container";
+    private static final int TOTAL_PARTITIONS = 16384;
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2000);
+
+    // 네트워크 왕복이 발생하지 않는 커넥션 메서드 (리소스 관리, 상태 조회)
+    private static final Set<String> LOCAL_METHODS = Set.of(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined",
+            "isSubscribed", "getSubscription", "getSentinelConnection",
+            "hashCode", "equals", "toString"
+    );
+
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JedisConnectionFactory jedisConnectionFactory;
+    private StringRedisTemplate countingTemplate;
+    private ContainerRedisAdapter adapter;
+
+    private UUID functionId;
+    private ContainerInfo containerInfo;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getProperty("benchmark.redis.host");
+        int port = Integer.getInteger("benchmark.redis.port", 6379);
+
+        jedisConnectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        jedisConnectionFactory.afterPropertiesSet();
+        jedisConnectionFactory.start();
+
+        countingTemplate = new StringRedisTemplate(countingFactory(jedisConnectionFactory));
+
+        ContainerPoolScripts scripts = new ContainerPoolScripts(countingTemplate);
+        scripts.preload();
+        adapter = new ContainerRedisAdapter(countingTemplate, objectMapper, scripts, new SimpleMeterRegistry());
+
+        functionId = UUID.randomUUID();
+        String instanceId = UUID.randomUUID().toString();
+        containerInfo = new ContainerInfo("10.0.0.1", "instances/" + functionId + "/" + instanceId + "/sock/function.sock");
+    }
+
+    @AfterEach
+    void tearDown() {
+        countingTemplate.delete(IDLE_QUEUE_PREFIX + functionId);
+        countingTemplate.delete(REQUEST_QUEUE_PREFIX + primarySlot());
+        countingTemplate.delete(REQUEST_QUEUE_PREFIX + secondarySlot());
+        countingTemplate.opsForZSet().remove(GC_CONTAINER_KEY, gcMember());
+        countingTemplate.delete(ContainerRedisAdapter.S3_KEY_PREFIX + functionId);
+        jedisConnectionFactory.destroy();
+    }
+
+    @Test
+    void warmInvocationRoundTrips() throws Exception {
+        adapter.returnContainer(functionId, containerInfo);
+
+        long legacy = measure("warm/legacy", this::legacyWarm);
+        long scripted = measure("warm/scripted", this::scriptedWarm);
+
+        // 기존: LPOP + RPUSH + ZADD = 3, 스크립트: pop-lease + return-heartbeat = 2
+        assertThat(legacy).isEqualTo(3);
+        assertThat(scripted).isEqualTo(2);
+    }
+
+    @Test
+    void coldInvocationRoundTrips() throws Exception {
+        long legacy = measure("cold/legacy", this::legacyCold);
+        long scripted = measure("cold/scripted", this::scriptedCold);
+
+        // 기존: LPOP(miss) + LLEN x2 + RPUSH + BLPOP + RPUSH + ZADD = 7
+        // 스크립트: pop-lease(miss) + request + BLPOP + return-heartbeat = 4
+        assertThat(legacy).isEqualTo(7);
+        assertThat(scripted).isEqualTo(4);
+    }
+
+    // ==========================================
+    // 호출 1건 시나리오
+    // ==========================================
+
+    private void legacyWarm() throws Exception {
+        String key = IDLE_QUEUE_PREFIX + functionId;
+        String json = countingTemplate.opsForList().leftPop(key);
+        countingTemplate.opsForList().rightPush(key, json);
+        countingTemplate.opsForZSet().add(GC_CONTAINER_KEY, gcMember(), expiryTime());
+    }
+
+    private void scriptedWarm() {
+        ContainerInfo info = adapter.popContainer(functionId).orElseThrow();
+        adapter.returnContainer(functionId, info);
+    }
+
+    private void legacyCold() throws Exception {
+        String key = IDLE_QUEUE_PREFIX + functionId;
+        String queueA = REQUEST_QUEUE_PREFIX + primarySlot();
+        String queueB = REQUEST_QUEUE_PREFIX + secondarySlot();
+
+        countingTemplate.opsForList().leftPop(key);
+        Long lenA = countingTemplate.opsForList().size(queueA);
+        Long lenB = countingTemplate.opsForList().size(queueB);
+        String targetQueue = (lenA <= lenB) ? queueA : queueB;
+        countingTemplate.opsForList().rightPush(targetQueue, "{\"functionId\":\"" + functionId + "\"}");
+
+        simulateProvisioner();
+
+        String json = countingTemplate.opsForList().leftPop(key, 3, TimeUnit.MINUTES);
+        countingTemplate.opsForList().rightPush(key, json);
+        countingTemplate.opsForZSet().add(GC_CONTAINER_KEY, gcMember(), expiryTime());
+
+        drain();
+    }
+
+    private void scriptedCold() throws Exception {
+        Optional<ContainerInfo> warm = adapter.popContainer(functionId);
+        assertThat(warm).isEmpty();
+        String requestId = adapter.requestContainerCreation(functionId, "functions/" + functionId + ".zip");
+
+        simulateProvisioner();
+
+        ContainerInfo info = adapter.waitContainer(functionId, requestId).orElseThrow().containerInfo();
+        adapter.returnContainer(functionId, info);
+
+        drain();
+    }
+
+    // ==========================================
+    // 측정 유틸
+    // ==========================================
+
+    @FunctionalInterface
+    private interface Scenario {
+        void run() throws Exception;
+    }
+
+    // 1회 실행으로 왕복 횟수를 세고(테스트에서 검증), 이후 반복 실행으로 평균 지연을 로그로 남김
+    private long measure(String name, Scenario scenario) throws Exception {
+        roundTrips.set(0);
+        scenario.run();
+        long perInvocation = roundTrips.get();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            scenario.run();
+        }
+        long avgMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ITERATIONS;
+
+        log.info("[{}] round trips/invocation={}, avg={}us ({} iterations)",
+                name, perInvocation, avgMicros, ITERATIONS);
+        return perInvocation;
+    }
+
+    // Provisioner 역할: 생성 요청을 소비하고 컨테이너를 대기열에 적재 (측정 제외)
+    private void simulateProvisioner() throws Exception {
+        long before = roundTrips.get();
+        countingTemplate.delete(REQUEST_QUEUE_PREFIX + primarySlot());
+        countingTemplate.delete(REQUEST_QUEUE_PREFIX + secondarySlot());
+        countingTemplate.opsForList().rightPush(IDLE_QUEUE_PREFIX + functionId, objectMapper.writeValueAsString(containerInfo));
+        roundTrips.set(before);
+    }
+
+    // 다음 반복이 다시 Cold 경로를 타도록 대기열 비우기 (측정 제외)
+    private void drain() {
+        long before = roundTrips.get();
+        countingTemplate.delete(IDLE_QUEUE_PREFIX + functionId);
+        roundTrips.set(before);
+    }
+
+    private RedisConnectionFactory countingFactory(RedisConnectionFactory target) {
+        return (RedisConnectionFactory) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{RedisConnectionFactory.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof RedisConnection connection) {
+                        return countingProxy(connection, RedisConnection.class);
+                    }
+                    return result;
+                });
+    }
+
+    // 커넥션 및 xxxCommands() 하위 인터페이스 호출을 명령 1회(왕복 1회)로 집계
+    private Object countingProxy(Object target, Class<?> type) {
+        return Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Class<?> returnType = method.getReturnType();
+                    boolean accessor = method.getName().endsWith("Commands") && returnType.isInterface();
+
+                    if (accessor) {
+                        Object commands = invoke(target, method, args);
+                        return commands == null ? null : countingProxy(commands, returnType);
+                    }
+                    if (!LOCAL_METHODS.contains(method.getName())) {
+                        roundTrips.incrementAndGet();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private int primarySlot() {
+        return Math.abs(functionId.hashCode()) % TOTAL_PARTITIONS;
+    }
+
+    private int secondarySlot() {
+        return Math.abs((functionId.toString() + ":secondary").hashCode()) % TOTAL_PARTITIONS;
+    }
+
+    private String gcMember() {
+        String instanceId = containerInfo.sockPath().split("/")[2];
+        return functionId + ":" + instanceId + ":" + containerInfo.agentIp();
+    }
+
+    private long expiryTime() {
+        return System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(15);
+    }
+}
@@ -0,0 +1,269 @@
+package com.hanyahunya.invoker.adapter.out.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [추가] Lua 스크립트의 반환값과 부수 효과 검증
+ * 실제 Redis가 필요하므로 -Dbenchmark.redis.host=localhost 지정 시에만 실행 (ContainerRedisRoundTripBenchmark와 동일)
+ * 공유 키(agent:down, prov:gc:container 등)를 건드리지 않도록 테스트마다 별도 키 사용
+ */
+@EnabledIfSystemProperty(named = "benchmark.redis.host", matches = ".+")
+class RedisLuaScriptsTest {
+
+    private static final RedisScript<List<String>> CLAIM_IDEMPOTENCY =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/claim_idempotency.lua"), List.class);
+    private static final RedisScript<Long> FINISH_IDEMPOTENCY =
+            RedisScript.of(new ClassPathResource("scripts/finish_idempotency.lua"), Long.class);
+    private static final RedisScript<Long> TAKE_TOKENS =
+            RedisScript.of(new ClassPathResource("scripts/take_tokens.lua"), Long.class);
+    private static final String PROBE = "probe";
+
+    private JedisConnectionFactory jedisConnectionFactory;
+    private StringRedisTemplate template;
+    private ContainerPoolScripts scripts;
+
+    private String prefix;
+    private final List<String> keys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getProperty("benchmark.redis.host");
+        int port = Integer.getInteger("benchmark.redis.port", 6379);
+
+        jedisConnectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        jedisConnectionFactory.afterPropertiesSet();
+        jedisConnectionFactory.start();
+
+        template = new StringRedisTemplate(jedisConnectionFactory);
+        scripts = new ContainerPoolScripts(template);
+        prefix = "test:" + UUID.randomUUID() + ":";
+    }
+
+    @AfterEach
+    void tearDown() {
+        template.delete(keys);
+        jedisConnectionFactory.destroy();
+    }
+
+    // ==========================================
+    // pop_container
+    // ==========================================
+
+    @Test
+    void popContainerSkipsDownAgentAndExtendsLease() {
+        String idle = key("idle");
+        String gc = key("gc");
+        String down = key("agent:down");
+        String functionId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+
+        String downEntry = idleEntry("10.0.0.1", functionId, "a");
+        String healthyEntry = idleEntry("10.0.0.2", functionId, "b");
+        template.opsForList().rightPushAll(idle, downEntry, healthyEntry);
+        template.opsForZSet().add(down, "10.0.0.1", now + 60_000);
+        template.opsForZSet().add(gc, functionId + ":a:10.0.0.1", 1);
+        template.opsForZSet().add(gc, functionId + ":b:10.0.0.2", 1);
+
+        String popped = template.execute(scripts.getPopContainer(), List.of(idle, gc, down),
+                functionId, String.valueOf(now + 900_000), String.valueOf(now));
+
+        // 장애 Agent 컨테이너는 버려지고 다음 컨테이너를 임대
+        assertThat(popped).isEqualTo(healthyEntry);
+        assertThat(template.opsForList().size(idle)).isZero();
+        assertThat(template.opsForZSet().score(gc, functionId + ":b:10.0.0.2")).isEqualTo(now + 900_000d);
+        // 버려진 컨테이너의 GC 만료는 그대로 -> Provisioner GC가 정리
+        assertThat(template.opsForZSet().score(gc, functionId + ":a:10.0.0.1")).isEqualTo(1d);
+    }
+
+    @Test
+    void popContainerUsesAgentAfterDownExpires() {
+        String idle = key("idle");
+        String gc = key("gc");
+        String down = key("agent:down");
+        String functionId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+
+        String entry = idleEntry("10.0.0.1", functionId, "a");
+        template.opsForList().rightPush(idle, entry);
+        template.opsForZSet().add(down, "10.0.0.1", now - 1);
+
+        String popped = template.execute(scripts.getPopContainer(), List.of(idle, gc, down),
+                functionId, String.valueOf(now + 900_000), String.valueOf(now));
+
+        assertThat(popped).isEqualTo(entry);
+        // XX: GC가 이미 정리한 멤버는 되살리지 않음
+        assertThat(template.opsForZSet().score(gc, functionId + ":a:10.0.0.1")).isNull();
+    }
+
+    @Test
+    void popContainerReturnsNullWhenEmpty() {
+        long now = System.currentTimeMillis();
+
+        String popped = template.execute(scripts.getPopContainer(), List.of(key("idle"), key("gc"), key("agent:down")),
+                UUID.randomUUID().toString(), String.valueOf(now + 900_000), String.valueOf(now));
+
+        assertThat(popped).isNull();
+    }
+
+    // ==========================================
+    // return_container
+    // ==========================================
+
+    @Test
+    void returnContainerPublishesOnlyWhenWaiting() throws Exception {
+        String idle = key("idle");
+        String gc = key("gc");
+        String waiting = key("waiting");
+        String channel = key("notify");
+        String functionId = UUID.randomUUID().toString();
+        String entry = idleEntry("10.0.0.1", functionId, "a");
+        String member = functionId + ":a:10.0.0.1";
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        RedisMessageListenerContainer listener = subscribe(channel, received);
+        try {
+            // 기다리는 Invoker가 없으면 알림 없음
+            Long first = template.execute(scripts.getReturnContainer(), List.of(idle, gc, waiting),
+                    entry, member, "1000", channel, functionId);
+            assertThat(first).isEqualTo(1L);
+            assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+            template.opsForValue().set(waiting, "1");
+            Long second = template.execute(scripts.getReturnContainer(), List.of(idle, gc, waiting),
+                    entry, member, "2000", channel, functionId);
+            assertThat(second).isEqualTo(1L);
+            assertThat(received.poll(2, TimeUnit.SECONDS)).isEqualTo(functionId);
+        } finally {
+            listener.destroy();
+        }
+
+        assertThat(template.opsForList().range(idle, 0, -1)).containsExactly(entry, entry);
+        assertThat(template.opsForZSet().score(gc, member)).isEqualTo(2000d);
+    }
+
+    // ==========================================
+    // claim_idempotency / finish_idempotency
+    // ==========================================
+
+    @Test
+    void claimAndFinishIdempotency() {
+        String idem = key("idem");
+
+        List<String> acquired = template.execute(CLAIM_IDEMPOTENCY, List.of(idem), "hash-1", "owner-1", "60000");
+        assertThat(acquired).containsExactly("ACQUIRED", "hash-1", "");
+        assertThat(template.opsForHash().get(idem, "state")).isEqualTo("PENDING");
+        assertThat(template.getExpire(idem, TimeUnit.MILLISECONDS)).isPositive();
+
+        List<String> pending = template.execute(CLAIM_IDEMPOTENCY, List.of(idem), "hash-2", "owner-2", "60000");
+        assertThat(pending).containsExactly("PENDING", "hash-1", "");
+
+        // 선점하지 않은 owner는 종료 처리 불가
+        assertThat(template.execute(FINISH_IDEMPOTENCY, List.of(idem), "owner-2", "DONE", "cmVzdWx0", "600000"))
+                .isEqualTo(0L);
+        assertThat(template.opsForHash().get(idem, "state")).isEqualTo("PENDING");
+
+        assertThat(template.execute(FINISH_IDEMPOTENCY, List.of(idem), "owner-1", "DONE", "cmVzdWx0", "600000"))
+                .isEqualTo(1L);
+        assertThat(template.opsForHash().get(idem, "owner")).isNull();
+        assertThat(template.getExpire(idem, TimeUnit.MILLISECONDS)).isGreaterThan(60_000L);
+
+        List<String> done = template.execute(CLAIM_IDEMPOTENCY, List.of(idem), "hash-1", "owner-3", "60000");
+        assertThat(done).containsExactly("DONE", "hash-1", "cmVzdWx0");
+    }
+
+    @Test
+    void failedIdempotencyReleasesKey() {
+        String idem = key("idem");
+        template.execute(CLAIM_IDEMPOTENCY, List.of(idem), "hash-1", "owner-1", "60000");
+
+        assertThat(template.execute(FINISH_IDEMPOTENCY, List.of(idem), "owner-1", "FAILED", "", "600000"))
+                .isEqualTo(1L);
+        assertThat(template.hasKey(idem)).isFalse();
+
+        // 재시도는 다시 선점
+        List<String> retried = template.execute(CLAIM_IDEMPOTENCY, List.of(idem), "hash-1", "owner-2", "60000");
+        assertThat(retried.get(0)).isEqualTo("ACQUIRED");
+    }
+
+    // ==========================================
+    // take_tokens
+    // ==========================================
+
+    @Test
+    void takeTokensGrantsUpToBurst() {
+        String bucket = key("bucket");
+
+        // 초당 1개 충전 -> 테스트 중 충전되는 토큰은 1개 미만
+        assertThat(template.execute(TAKE_TOKENS, List.of(bucket), "1", "5", "3")).isEqualTo(3L);
+        assertThat(template.execute(TAKE_TOKENS, List.of(bucket), "1", "5", "3")).isEqualTo(2L);
+        assertThat(template.execute(TAKE_TOKENS, List.of(bucket), "1", "5", "3")).isEqualTo(0L);
+
+        // 가득 찰 때까지 걸리는 시간(5s) + 1s
+        assertThat(template.getExpire(bucket, TimeUnit.MILLISECONDS)).isBetween(1L, 6_000L);
+    }
+
+    @Test
+    void takeTokensRejectsNonPositiveRate() {
+        String bucket = key("bucket");
+
+        assertThat(template.execute(TAKE_TOKENS, List.of(bucket), "0", "5", "3")).isEqualTo(0L);
+        assertThat(template.hasKey(bucket)).isFalse();
+    }
+
+    // ==========================================
+    // 유틸
+    // ==========================================
+
+    private String key(String name) {
+        String key = prefix + name;
+        keys.add(key);
+        return key;
+    }
+
+    private static String idleEntry(String agentIp, String functionId, String instanceId) {
+        return "{\"agentIp\":\"" + agentIp + "\",\"sockPath\":\"instances/" + functionId + "/" + instanceId + "/sock/function.sock\"}";
+    }
+
+    // 구독이 실제로 연결될 때까지 확인용 메시지를 보낸 뒤 반환 (확인용 메시지는 received에 넣지 않음)
+    private RedisMessageListenerContainer subscribe(String channel, BlockingQueue<String> received) throws Exception {
+        BlockingQueue<String> probes = new LinkedBlockingQueue<>();
+        RedisMessageListenerContainer listener = new RedisMessageListenerContainer();
+        listener.setConnectionFactory(jedisConnectionFactory);
+        listener.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            (PROBE.equals(body) ? probes : received).add(body);
+        }, new ChannelTopic(channel));
+        listener.afterPropertiesSet();
+        listener.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            template.convertAndSend(channel, PROBE);
+            if (probes.poll(100, TimeUnit.MILLISECONDS) != null) {
+                return listener;
+            }
+        }
+        listener.destroy();
+        throw new IllegalStateException("Subscription not established: " + channel);
+    }
+}
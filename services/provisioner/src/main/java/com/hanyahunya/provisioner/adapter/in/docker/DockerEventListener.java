@@ -0,0 +1,240 @@
+package com.hanyahunya.provisioner.adapter.in.docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import com.hanyahunya.provisioner.adapter.out.docker.ContainerInventory;
+import com.hanyahunya.provisioner.application.system.ResourceCleanupService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [추가] Docker 이벤트 구독 -> 컨테이너 목록(ContainerInventory) 갱신
+ * - 시작 / 재연결 시 한 번 전체 목록을 받아오고, 이후에는 이벤트만 반영 (이벤트 유실 대비 5분마다 재동기화)
+ * - 실행 중이던 컨테이너가 멈추면(OOM Kill 등) 바로 대기열에서 빼고 정리 -> Invoker가 죽은 컨테이너를 꺼내지 않도록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DockerEventListener {
+
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final DockerClient dockerClient;
+    private final ContainerInventory containerInventory;
+    private final ResourceCleanupService resourceCleanupService;
+    private final MeterRegistry meterRegistry;
+
+    // 이벤트 수신 스레드를 막지 않도록 정리 작업은 가상 스레드에서 수행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // oom 이벤트 다음에 오는 die 이벤트의 종료 원인 표시
+    private final Set<String> oomKilled = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running = true;
+    private volatile Closeable subscription;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("provisioner.containers", containerInventory, ContainerInventory::count)
+                .description("Function containers on this node")
+                .register(meterRegistry);
+        subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeSubscription();
+        executor.shutdownNow();
+    }
+
+    private void subscribe() {
+        if (!running) {
+            return;
+        }
+        try {
+            // 구독을 먼저 시작한 뒤 목록 조회 (그 사이 변화가 이벤트로 반영되도록)
+            subscription = dockerClient.eventsCmd()
+                    .withEventTypeFilter(EventType.CONTAINER)
+                    .withEventFilter("create", "start", "oom", "die", "destroy")
+                    .exec(new EventCallback());
+            resync();
+        } catch (Exception e) {
+            log.error("Failed to subscribe docker events: {}", e.getMessage());
+            scheduleReconnect();
+        }
+    }
+
+    private void scheduleReconnect() {
+        if (!running) {
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MILLIS);
+                subscribe();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private void closeSubscription() {
+        Closeable current = subscription;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (Exception e) {
+            log.debug("Failed to close docker event stream: {}", e.getMessage());
+        }
+    }
+
+    // 이벤트 유실 대비 주기적 재동기화
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void resync() {
+        try {
+            // [추가] 조회 이후에 들어온 이벤트는 목록보다 최신
+            long since = containerInventory.beginSnapshot();
+            List<Container> containers = dockerClient.listContainersCmd()
+                    .withShowAll(true)
+                    .withNameFilter(Set.of(ContainerInventory.CONTAINER_NAME_PREFIX))
+                    .exec();
+
+            Map<String, ContainerInventory.Entry> snapshot = new HashMap<>();
+            for (Container container : containers) {
+                String instanceId = instanceId(container.getNames());
+                if (instanceId == null) {
+                    continue;
+                }
+                Map<String, String> labels = (container.getLabels() != null) ? container.getLabels() : Map.of();
+                String functionId = labels.get(ContainerInventory.FUNCTION_ID_LABEL);
+                boolean pooled = labels.containsKey(ContainerInventory.POOL_RUNTIME_LABEL);
+                snapshot.put(instanceId, new ContainerInventory.Entry(functionId, state(container.getState()), pooled));
+            }
+            containerInventory.reset(snapshot, since);
+            log.info("Container inventory synced: {} containers", snapshot.size());
+        } catch (Exception e) {
+            log.warn("Failed to sync container inventory: {}", e.getMessage());
+        }
+    }
+
+    private void onEvent(Event event) {
+        Map<String, String> attributes = (event.getActor() != null && event.getActor().getAttributes() != null)
+                ? event.getActor().getAttributes()
+                : Map.of();
+        String name = attributes.get("name");
+        if (name == null || !name.startsWith(ContainerInventory.CONTAINER_NAME_PREFIX)) {
+            return;
+        }
+        String instanceId = name.substring(ContainerInventory.CONTAINER_NAME_PREFIX.length());
+        // 컨테이너 라벨은 이벤트 속성에 그대로 실려 옴
+        String functionId = attributes.get(ContainerInventory.FUNCTION_ID_LABEL);
+        boolean pooled = attributes.containsKey(ContainerInventory.POOL_RUNTIME_LABEL);
+
+        switch (String.valueOf(event.getAction())) {
+            case "create" -> containerInventory.created(instanceId, functionId, pooled);
+            case "start" -> containerInventory.started(instanceId, functionId, pooled);
+            case "oom" -> oomKilled.add(instanceId);
+            case "die" -> {
+                String reason = oomKilled.remove(instanceId) ? "oom" : "exited";
+                containerInventory.exited(instanceId, functionId)
+                        .ifPresent(entry -> onUnexpectedExit(entry.functionId(), instanceId, reason));
+            }
+            case "destroy" -> {
+                oomKilled.remove(instanceId);
+                containerInventory.destroyed(instanceId);
+            }
+            default -> { }
+        }
+    }
+
+    private void onUnexpectedExit(String functionId, String instanceId, String reason) {
+        meterRegistry.counter("provisioner.container.exited", "reason", reason).increment();
+        if (functionId == null) {
+            // 라벨이 없는 구버전 컨테이너 -> GC 만료 시 정리 / 할당 전 풀 컨테이너 -> 런타임 풀이 정리
+            log.warn("Container exited unexpectedly ({}): {} (no function label)", reason, instanceId);
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                resourceCleanupService.handleContainerExit(functionId, instanceId, reason);
+            } catch (Exception e) {
+                log.error("Failed to clean up exited container: {}", instanceId, e);
+            }
+        });
+    }
+
+    // Docker 목록의 이름은 "/ins-{instanceId}" 형식
+    private static String instanceId(String[] names) {
+        if (names == null) {
+            return null;
+        }
+        for (String name : names) {
+            String trimmed = name.startsWith("/") ? name.substring(1) : name;
+            if (trimmed.startsWith(ContainerInventory.CONTAINER_NAME_PREFIX)) {
+                return trimmed.substring(ContainerInventory.CONTAINER_NAME_PREFIX.length());
+            }
+        }
+        return null;
+    }
+
+    private static ContainerInventory.State state(String dockerState) {
+        if ("running".equals(dockerState)) {
+            return ContainerInventory.State.RUNNING;
+        }
+        if ("created".equals(dockerState)) {
+            return ContainerInventory.State.CREATED;
+        }
+        return ContainerInventory.State.EXITED;
+    }
+
+    private class EventCallback extends ResultCallback.Adapter<Event> {
+        @Override
+        public void onNext(Event event) {
+            try {
+                onEvent(event);
+            } catch (Exception e) {
+                log.warn("Failed to handle docker event: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            if (running) {
+                log.warn("Docker event stream failed, reconnecting: {}", throwable.getMessage());
+                scheduleReconnect();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            if (running) {
+                log.warn("Docker event stream closed, reconnecting");
+                scheduleReconnect();
+            }
+        }
+    }
+}
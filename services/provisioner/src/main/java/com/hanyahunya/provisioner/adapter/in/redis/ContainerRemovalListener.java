@@ -0,0 +1,52 @@
+package com.hanyahunya.provisioner.adapter.in.redis;
+
+import com.hanyahunya.provisioner.application.system.ResourceCleanupService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * [추가] Invoker가 보낸 컨테이너 제거 요청 구독 (메시지: functionId:instanceId:agentIp)
+ * - 타임아웃 / 연속 통신 실패로 재사용하면 안 되는 컨테이너를 GC 주기(15분)까지 방치하지 않음
+ * - 알림이 유실되어도 Invoker가 GC 만료 시각을 당겨 두었으므로 다음 GC 주기에 정리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContainerRemovalListener implements MessageListener {
+
+    private static final String CONTAINER_REMOVE_CHANNEL = "prov:container:remove";
+
+    private final ResourceCleanupService resourceCleanupService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // Docker 제거는 구독 스레드가 아닌 가상 스레드에서 수행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CONTAINER_REMOVE_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String member = new String(message.getBody(), StandardCharsets.UTF_8);
+        executor.submit(() -> {
+            try {
+                resourceCleanupService.evictContainer(member);
+            } catch (Exception e) {
+                log.error("Failed to evict container: {}", member, e);
+            }
+        });
+    }
+}
@@ -3,7 +3,9 @@ package com.hanyahunya.provisioner.adapter.in.redis;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.provisioner.application.port.in.ContainerUseCase;
 import com.hanyahunya.provisioner.application.port.out.ContainerOrchestrationPort;
+import com.hanyahunya.provisioner.application.port.out.ProvisionedConcurrencyPort;
 import com.hanyahunya.provisioner.application.port.out.WorkerManagementPort;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.StringRedisConnection;
@@ -31,6 +33,12 @@ public class RedisWorkerAdapter implements WorkerManagementPort {
     // [추가] 컨테이너 개수 확인용 포트 주입
     private final ContainerOrchestrationPort containerOrchestrationPort;
 
+    // [추가] 건너뛴 Provisioned 요청의 Pending 차감용
+    private final ProvisionedConcurrencyPort provisionedConcurrencyPort;
+
+    // [추가] 건너뛴 Cold Start 요청 수 (만들지 않은 컨테이너 = 아낀 빌드) / 생성 도중 취소된 잉여 컨테이너 수
+    private final MeterRegistry meterRegistry;
+
     private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
     private final List<Future<?>> activeListenerFutures = new ArrayList<>();
 
@@ -42,6 +50,8 @@ public class RedisWorkerAdapter implements WorkerManagementPort {
     private static final int TOTAL_PARTITIONS = 16384;
     // 과부하 기준 컨테이너 수
     private static final int MAX_CONTAINER_LIMIT = 50;
+    // [추가] Invoker가 취소한 요청 표시 (Key: func:request:cancel:{nonce})
+    private static final String REQUEST_CANCEL_PREFIX = "func:request:cancel:";
 
     @Override
     public synchronized void syncWorkers(int start, int end) {
@@ -122,6 +132,21 @@ public class RedisWorkerAdapter implements WorkerManagementPort {
 
     private void processMessageAsync(String queueName, String messageJson) {
         try {
+            ColdStartRequestDto dto = objectMapper.readValue(messageJson, ColdStartRequestDto.class);
+
+            // [추가] 대기자가 이미 포기했거나(deadline) 다른 컨테이너로 충족된(cancel) 요청은 만들지 않음
+            // -> 밀린 상황에서 아무도 기다리지 않는 컨테이너를 만들느라 더 밀리지 않도록 (넘기기 전에 확인)
+            String skipReason = skipReason(dto);
+            if (skipReason != null) {
+                log.info("Skipping cold start request [{}] (nonce: {}, reason: {})", dto.functionId(), dto.nonce(), skipReason);
+                meterRegistry.counter("provisioner.cold_start.skipped", "reason", skipReason).increment();
+                // [추가] 만들지 않은 Provisioned 요청은 Pending에서 바로 빼야 다음 보충에서 다시 요청됨
+                if (Boolean.TRUE.equals(dto.provisioned())) {
+                    provisionedConcurrencyPort.completePending(UUID.fromString(dto.functionId()));
+                }
+                return;
+            }
+
             // =========================================================
             // [핵심] 과부하 제어 및 파티션 넘기기 (Load Shedding)
             // =========================================================
@@ -152,18 +177,41 @@ public class RedisWorkerAdapter implements WorkerManagementPort {
 
             log.info("Processing Task asynchronously: {}", messageJson);
 
-            ColdStartRequestDto dto = objectMapper.readValue(messageJson, ColdStartRequestDto.class);
             ContainerUseCase.Command command = new ContainerUseCase.Command(
                     UUID.fromString(dto.functionId()),
-                    dto.s3Key()
+                    dto.s3Key(),
+                    dto.nonce(),
+                    Boolean.TRUE.equals(dto.provisioned())
             );
 
-            containerUseCase.createAndRunContainer(command);
+            boolean created = containerUseCase.createAndRunContainer(command);
+
+            // [추가] 건너뛰기 확인 이후(생성 도중) 취소된 요청 -> 대기자 없이 만들어진 잉여 컨테이너
+            // (대기열에 들어갔으므로 다음 요청이 쓰거나 GC로 정리됨, 과잉 프로비저닝 튜닝용)
+            if (created && isCancelled(dto.nonce())) {
+                meterRegistry.counter("provisioner.cold_start.surplus").increment();
+            }
 
         } catch (Exception e) {
             log.error("Failed to process message: {}", messageJson, e);
         }
     }
 
-    private record ColdStartRequestDto(String functionId, String s3Key) {}
+    // deadline 없음(Pre-warm / 구버전 Invoker) -> 항상 생성
+    private String skipReason(ColdStartRequestDto dto) {
+        if (dto.deadline() != null && dto.deadline() < System.currentTimeMillis()) {
+            return "expired";
+        }
+        if (isCancelled(dto.nonce())) {
+            return "cancelled";
+        }
+        return null;
+    }
+
+    private boolean isCancelled(String nonce) {
+        return nonce != null && Boolean.TRUE.equals(redisTemplate.hasKey(REQUEST_CANCEL_PREFIX + nonce));
+    }
+
+    // [변경] deadline: 대기자가 포기하는 시각 (epoch ms)
+    private record ColdStartRequestDto(String functionId, String s3Key, String nonce, Boolean provisioned, Long deadline) {}
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -29,7 +31,7 @@ public class S3Adapter implements BlobStoragePort {
     private String bucketName;
 
     @Override
-    public void downloadAndUnzip(String key, Path destinationDir) {
+    public String downloadAndUnzip(String key, Path destinationDir) {
         log.info("S3 Download & Unzip Start: s3://{}/{} -> {}", bucketName, key, destinationDir);
 
         try {
@@ -39,18 +41,35 @@ public class S3Adapter implements BlobStoragePort {
                     .build();
 
             // ZIP 파일을 디스크에 저장하지 않고, 스트림에서 바로 읽어 압축해제
+            String eTag;
             try (ResponseInputStream<GetObjectResponse> s3Stream = s3Client.getObject(request)) {
+                // [추가] 실제로 받은 객체의 버전 (HEAD 이후 그 사이에 바뀌었을 수 있음)
+                eTag = s3Stream.response().eTag();
                 unzip(s3Stream, destinationDir.toFile());
             }
 
-            log.info("S3 Download & Unzip Success");
+            log.info("S3 Download & Unzip Success (ETag: {})", eTag);
+            return eTag;
 
+        } catch (NoSuchKeyException e) {
+            // [추가] 패키지가 없는 경우만 따로 구분 (영구 실패)
+            log.error("S3 Object Not Found: s3://{}/{}", bucketName, key);
+            throw new ObjectNotFoundException("Function package not found: " + key);
         } catch (Exception e) {
             log.error("S3 Operation Failed: {}", e.getMessage());
             throw new RuntimeException("S3 Download & Unzip Failed", e);
         }
     }
 
+    @Override
+    public String getVersion(String key) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        return s3Client.headObject(request).eTag();
+    }
+
     // 압축 해제 로직
     private void unzip(InputStream inputStream, File destDir) throws IOException {
         byte[] buffer = new byte[1024];
@@ -0,0 +1,158 @@
+package com.hanyahunya.provisioner.adapter.out.docker;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [추가] 이 노드의 함수 컨테이너(ins-*) 목록 (메모리)
+ * - 시작 시 한 번 목록을 받아오고 이후 Docker 이벤트(create/start/die/oom/destroy)로 갱신 (DockerEventListener)
+ * - Cold Start 요청마다 Docker 데몬에 목록을 조회하지 않고 바로 개수 확인
+ * - 기존 집계와 같이 멈춘 컨테이너도 destroy 전까지는 리소스로 간주
+ * - [추가] 변경마다 이벤트 순번을 기록 -> 재동기화 시 목록 조회 이후의 이벤트가 오래된 목록에 덮어써지지 않음
+ */
+@Component
+public class ContainerInventory {
+
+    public static final String CONTAINER_NAME_PREFIX = "ins-";
+    // 컨테이너 생성 시 붙이는 라벨 (이벤트에서 어떤 함수의 컨테이너인지 확인용)
+    public static final String FUNCTION_ID_LABEL = "faas.function-id";
+    // [추가] 런타임 풀 컨테이너 라벨 (값: Runtime, 할당 전에는 함수 라벨 없음)
+    public static final String POOL_RUNTIME_LABEL = "faas.pool-runtime";
+
+    public enum State { CREATED, RUNNING, EXITED }
+
+    // functionId: 라벨이 없는 구버전 컨테이너는 null
+    // [추가] pooled: 런타임 풀 컨테이너 (functionId가 없으면 아직 할당 전)
+    public record Entry(String functionId, State state, boolean pooled) {
+
+        boolean unassignedPool() {
+            return pooled && functionId == null;
+        }
+    }
+
+    // [추가] 마지막으로 반영한 변경의 순번
+    private record Slot(Entry entry, long seq) {}
+
+    // Key: instanceId
+    private final Map<String, Slot> containers = new ConcurrentHashMap<>();
+
+    // [추가] 제거된 컨테이너의 순번 (목록 조회 이후에 제거된 컨테이너를 재동기화가 되살리지 않도록, 다음 재동기화까지만 보관)
+    private final Map<String, Long> destroyedAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 직접 제거 중인 컨테이너 (이때 발생하는 die 이벤트는 비정상 종료가 아님)
+    private final Set<String> removing = ConcurrentHashMap.newKeySet();
+
+    public int count() {
+        return containers.size();
+    }
+
+    /**
+     * [추가] 함수 실행에 쓰이는 컨테이너 수 (할당 전 풀 컨테이너 제외)
+     * - 풀은 Cold Start를 대신 받는 예비분이므로 과부하 판단에 넣지 않음
+     */
+    public int countAssigned() {
+        int count = 0;
+        for (Slot slot : containers.values()) {
+            if (!slot.entry().unassignedPool()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * [추가] 목록 조회 직전에 호출 -> 반환값을 reset에 그대로 넘김
+     */
+    public long beginSnapshot() {
+        return sequence.get();
+    }
+
+    /**
+     * [변경] 전체 목록으로 교체 (시작 / 이벤트 스트림 재연결 / 주기적 재동기화)
+     * - since: 목록 조회 직전의 순번 (beginSnapshot), 그 이후에 이벤트로 바뀐 컨테이너는 이벤트 쪽을 유지
+     * - 목록에 없는 컨테이너는 조회 이전부터 있던 것만 제거 / 조회 이후 제거된 컨테이너는 다시 넣지 않음
+     */
+    public void reset(Map<String, Entry> snapshot, long since) {
+        containers.forEach((instanceId, slot) -> {
+            if (!snapshot.containsKey(instanceId) && slot.seq() <= since) {
+                containers.remove(instanceId, slot);
+            }
+        });
+        snapshot.forEach((instanceId, fresh) -> containers.compute(instanceId, (id, current) -> {
+            Long destroyed = destroyedAt.get(instanceId);
+            if (destroyed != null && destroyed > since) {
+                return current;
+            }
+            if (current != null && current.seq() > since) {
+                return current;
+            }
+            // 라벨이 없는 풀 컨테이너는 메모리에 기록된 할당 정보를 유지
+            String functionId = (fresh.functionId() == null && current != null) ? current.entry().functionId() : fresh.functionId();
+            return new Slot(new Entry(functionId, fresh.state(), fresh.pooled()), since);
+        }));
+        // 목록에 이미 반영된 제거 기록은 더 필요 없음
+        destroyedAt.values().removeIf(seq -> seq <= since);
+    }
+
+    public void created(String instanceId, String functionId, boolean pooled) {
+        containers.putIfAbsent(instanceId, new Slot(new Entry(functionId, State.CREATED, pooled), sequence.incrementAndGet()));
+    }
+
+    public void started(String instanceId, String functionId, boolean pooled) {
+        containers.compute(instanceId, (id, previous) -> new Slot(new Entry(
+                (functionId == null && previous != null) ? previous.entry().functionId() : functionId,
+                State.RUNNING,
+                pooled || (previous != null && previous.entry().pooled())
+        ), sequence.incrementAndGet()));
+    }
+
+    // [추가] 풀 컨테이너가 함수에 할당된 경우 (라벨은 바꿀 수 없으므로 메모리에만 기록)
+    public void assign(String instanceId, String functionId) {
+        containers.computeIfPresent(instanceId, (id, slot) ->
+                new Slot(new Entry(functionId, slot.entry().state(), slot.entry().pooled()), sequence.incrementAndGet()));
+    }
+
+    // 아직 이벤트가 도착하지 않은 컨테이너는 멈춘 것으로 보지 않음
+    public boolean isExited(String instanceId) {
+        Slot slot = containers.get(instanceId);
+        return slot != null && slot.entry().state() == State.EXITED;
+    }
+
+    /**
+     * @return 실행 중이던 컨테이너가 예기치 않게 멈춘 경우 해당 엔트리 (직접 제거 중이거나 이미 멈춘 경우 empty)
+     */
+    public Optional<Entry> exited(String instanceId, String functionId) {
+        Slot previous = containers.get(instanceId);
+        String owner = (functionId == null && previous != null) ? previous.entry().functionId() : functionId;
+        Entry entry = new Entry(owner, State.EXITED, previous != null && previous.entry().pooled());
+        containers.put(instanceId, new Slot(entry, sequence.incrementAndGet()));
+
+        if (removing.contains(instanceId) || (previous != null && previous.entry().state() == State.EXITED)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    public void destroyed(String instanceId) {
+        // 제거 기록을 먼저 남김 -> 동시에 진행 중인 재동기화가 목록에 있던 이 컨테이너를 다시 넣지 않음
+        destroyedAt.put(instanceId, sequence.incrementAndGet());
+        containers.remove(instanceId);
+        removing.remove(instanceId);
+    }
+
+    public void markRemoving(String instanceId) {
+        removing.add(instanceId);
+    }
+
+    // 제거 대상이 이미 없었던 경우 (destroy 이벤트가 오지 않음)
+    public void unmarkRemoving(String instanceId) {
+        removing.remove(instanceId);
+    }
+}
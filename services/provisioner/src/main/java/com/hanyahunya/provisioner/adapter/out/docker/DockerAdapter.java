@@ -11,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -21,25 +20,45 @@ import java.util.Map;
 public class DockerAdapter implements ContainerOrchestrationPort {
 
     private final DockerClient dockerClient;
+    private final ContainerInventory containerInventory;
 
     private static final String CONTAINER_CODE_PATH = "/var/task";
     private static final String CONTAINER_SOCK_DIR = "/var/run";
+    // [추가] 풀 컨테이너는 이 파일이 생길 때까지 코드 로드를 미룸 (내용: 함수 환경 변수)
+    private static final String CODE_READY_FILE = CONTAINER_CODE_PATH + "/.ready";
 
     @Override
-    public String createAndStartContainer(Runtime runtime, String instanceId, Map<String, String> env, String hostCodePath, String hostSockPath) {
-        String imageTag = mapRuntimeToImage(runtime);
-        String containerName = "ins-" + instanceId;
-
-        log.info("Docker: Creating Container [Image: {}, Name: {}]", imageTag, containerName);
-
-        removeContainerIfExists(containerName);
-
+    public String createAndStartContainer(Runtime runtime, String functionId, String instanceId, Map<String, String> env, String hostCodePath, String hostSockPath) {
         List<String> envList = new ArrayList<>();
         if (env != null) {
             env.forEach((k, v) -> envList.add(k + "=" + v));
         }
         envList.add("SOCK_PATH=" + CONTAINER_SOCK_DIR + "/function.sock");
 
+        return createAndStart(runtime, instanceId, envList,
+                Map.of(ContainerInventory.FUNCTION_ID_LABEL, functionId), hostCodePath, hostSockPath);
+    }
+
+    // [추가] 런타임 풀 컨테이너 (함수 환경 변수는 할당 시 .ready 파일로 전달)
+    @Override
+    public String createPooledContainer(Runtime runtime, String instanceId, String hostCodePath, String hostSockPath) {
+        List<String> envList = List.of(
+                "SOCK_PATH=" + CONTAINER_SOCK_DIR + "/function.sock",
+                "CODE_READY_FILE=" + CODE_READY_FILE
+        );
+        return createAndStart(runtime, instanceId, envList,
+                Map.of(ContainerInventory.POOL_RUNTIME_LABEL, runtime.name()), hostCodePath, hostSockPath);
+    }
+
+    private String createAndStart(Runtime runtime, String instanceId, List<String> envList, Map<String, String> labels,
+                                  String hostCodePath, String hostSockPath) {
+        String imageTag = mapRuntimeToImage(runtime);
+        String containerName = ContainerInventory.CONTAINER_NAME_PREFIX + instanceId;
+
+        log.info("Docker: Creating Container [Image: {}, Name: {}]", imageTag, containerName);
+
+        removeContainerIfExists(containerName);
+
         HostConfig hostConfig = HostConfig.newHostConfig()
                 .withBinds(
                         Bind.parse(hostCodePath + ":" + CONTAINER_CODE_PATH + ":ro"),
@@ -53,6 +72,7 @@ public class DockerAdapter implements ContainerOrchestrationPort {
         try {
             CreateContainerResponse container = dockerClient.createContainerCmd(imageTag)
                     .withName(containerName)
+                    .withLabels(labels)
                     .withEnv(envList)
                     .withHostConfig(hostConfig)
                     .exec();
@@ -69,33 +89,40 @@ public class DockerAdapter implements ContainerOrchestrationPort {
 
     @Override
     public void removeContainer(String instanceId) {
-        String containerName = "ins-" + instanceId;
-        removeContainerIfExists(containerName);
+        String containerName = ContainerInventory.CONTAINER_NAME_PREFIX + instanceId;
+        // [추가] 직접 제거하면서 생기는 die 이벤트는 비정상 종료로 보지 않음
+        containerInventory.markRemoving(instanceId);
+        if (!removeContainerIfExists(containerName)) {
+            containerInventory.unmarkRemoving(instanceId);
+        }
         log.info("Docker Container Removed: {}", containerName);
     }
 
-    // [추가] 현재 떠있는 함수 컨테이너(ins-*) 개수 카운팅
+    // [변경] 요청마다 listContainers(전체 조회) 대신 이벤트로 유지하는 메모리 목록 사용
+    // [변경] 할당 전 런타임 풀 컨테이너는 제외 (풀을 채운 것만으로 과부하로 판단해서 요청을 넘기지 않도록)
     @Override
     public int getFunctionContainerCount() {
-        try {
-            // "ins-"로 시작하는 컨테이너만 필터링하여 개수 반환
-            // status=running 조건도 추가 가능하나, 일단 존재하는 모든 함수 컨테이너를 리소스로 간주
-            return dockerClient.listContainersCmd()
-                    .withShowAll(true)
-                    .withNameFilter(Collections.singleton("ins-"))
-                    .exec()
-                    .size();
-        } catch (Exception e) {
-            log.warn("Failed to count containers", e);
-            return 0;
-        }
+        return containerInventory.countAssigned();
+    }
+
+    @Override
+    public void assignFunction(String instanceId, String functionId) {
+        containerInventory.assign(instanceId, functionId);
+    }
+
+    @Override
+    public boolean isContainerExited(String instanceId) {
+        return containerInventory.isExited(instanceId);
     }
 
-    private void removeContainerIfExists(String containerName) {
+    // @return 제거했으면 true
+    private boolean removeContainerIfExists(String containerName) {
         try {
             dockerClient.removeContainerCmd(containerName).withForce(true).exec();
+            return true;
         } catch (Exception e) {
             // 이미 없으면 무시
+            return false;
         }
     }
 
@@ -19,6 +19,12 @@ public class RedisContainerResultAdapter implements ContainerResultPort {
     private final ObjectMapper objectMapper;
 
     private static final String IDLE_QUEUE_PREFIX = "func:idle:";
+    // [추가] 대기 중인 Invoker를 깨우기 위한 알림 채널 (메시지: functionId)
+    private static final String IDLE_NOTIFY_CHANNEL = "func:idle:notify";
+    // [추가] 생성 실패 알림 채널 (메시지: {functionId, nonce, reason, permanent})
+    private static final String PROVISION_FAILED_CHANNEL = "func:provision:failed";
+
+    private record ProvisionFailure(String functionId, String nonce, String reason, boolean permanent) {}
 
     @Override
     public void sendContainerInfo(UUID functionId, ContainerInfo info) {
@@ -27,6 +33,7 @@ public class RedisContainerResultAdapter implements ContainerResultPort {
             String jsonValue = objectMapper.writeValueAsString(info);
 
             stringRedisTemplate.opsForList().rightPush(key, jsonValue);
+            stringRedisTemplate.convertAndSend(IDLE_NOTIFY_CHANNEL, functionId.toString());
 
             log.info("Container Info sent to Redis [{}]: {}", key, jsonValue);
         } catch (Exception e) {
@@ -34,4 +41,15 @@ public class RedisContainerResultAdapter implements ContainerResultPort {
             throw new RuntimeException("Redis Push Failed", e);
         }
     }
+
+    @Override
+    public void sendFailure(UUID functionId, String nonce, String reason, boolean permanent) {
+        try {
+            String message = objectMapper.writeValueAsString(new ProvisionFailure(functionId.toString(), nonce, reason, permanent));
+            stringRedisTemplate.convertAndSend(PROVISION_FAILED_CHANNEL, message);
+        } catch (Exception e) {
+            // 알림이 유실되면 대기자는 타임아웃으로 실패
+            log.error("Failed to send provision failure [{}]: {}", functionId, e.getMessage());
+        }
+    }
 }
\ No newline at end of file
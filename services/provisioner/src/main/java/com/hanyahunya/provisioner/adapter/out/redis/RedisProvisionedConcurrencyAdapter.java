@@ -0,0 +1,171 @@
+package com.hanyahunya.provisioner.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.provisioner.application.port.out.ProvisionedConcurrencyPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * [추가] Provisioned Concurrency 상태 (Redis)
+ * - prov:provisioned                       : Hash, functionId -> {"s3Key", "target"} (Registry가 기록)
+ * - prov:provisioned:pending:{functionId}  : 생성 요청 후 아직 대기열에 들어오지 않은 수 (TTL로 유실 보정)
+ *   [변경] 요청에도 같은 TTL의 deadline을 실음 -> Pending이 만료된 뒤에는 남은 요청이 건너뛰어져서 중복 생성되지 않음
+ * - prov:provisioned:members:{functionId}  : GC 만료에서 제외할 GC 멤버 Set
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisProvisionedConcurrencyAdapter implements ProvisionedConcurrencyPort {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String PROVISIONED_KEY = "prov:provisioned";
+    private static final String PENDING_PREFIX = "prov:provisioned:pending:";
+    private static final String MEMBERS_PREFIX = "prov:provisioned:members:";
+    private static final String IDLE_QUEUE_PREFIX = "func:idle:";
+    private static final String REQUEST_QUEUE_PREFIX = "func:request:queue:";
+    private static final int TOTAL_PARTITIONS = 16384;
+
+    // 생성 도중 Provisioner가 죽어도 Pending이 영구히 남지 않도록 (요청 deadline도 같은 값)
+    private static final Duration PENDING_TTL = Duration.ofMinutes(2);
+
+    // Invoker의 ColdStartRequest와 동일한 포맷 (+ provisioned 표시)
+    // [변경] deadline: 이 시각이 지나면 Provisioner가 만들지 않고 Pending만 차감 (epoch ms)
+    private record ColdStartRequest(String functionId, String s3Key, String nonce, boolean provisioned, long deadline) {}
+
+    @Override
+    public Map<UUID, Target> findTargets() {
+        Map<UUID, Target> targets = new HashMap<>();
+        stringRedisTemplate.<String, String>opsForHash().entries(PROVISIONED_KEY).forEach((functionId, json) -> {
+            try {
+                targets.put(UUID.fromString(functionId), objectMapper.readValue(json, Target.class));
+            } catch (Exception e) {
+                log.warn("Invalid provisioned concurrency entry [{}]: {}", functionId, json);
+            }
+        });
+        return targets;
+    }
+
+    @Override
+    public void removeTarget(UUID functionId) {
+        stringRedisTemplate.opsForHash().delete(PROVISIONED_KEY, functionId.toString());
+    }
+
+    @Override
+    public long countIdle(UUID functionId) {
+        Long size = stringRedisTemplate.opsForList().size(IDLE_QUEUE_PREFIX + functionId);
+        return (size != null) ? size : 0;
+    }
+
+    @Override
+    public long countPending(UUID functionId) {
+        String value = stringRedisTemplate.opsForValue().get(PENDING_PREFIX + functionId);
+        return (value != null) ? Math.max(0, Long.parseLong(value)) : 0;
+    }
+
+    @Override
+    public void requestContainers(UUID functionId, String s3Key, int count) {
+        // Invoker의 첫 번째 후보 슬롯과 동일 (캐시 지역성 유지)
+        String queue = REQUEST_QUEUE_PREFIX + (Math.abs(functionId.hashCode()) % TOTAL_PARTITIONS);
+        String pendingKey = PENDING_PREFIX + functionId;
+
+        stringRedisTemplate.opsForValue().increment(pendingKey, count);
+        stringRedisTemplate.expire(pendingKey, PENDING_TTL);
+        long deadline = System.currentTimeMillis() + PENDING_TTL.toMillis();
+
+        for (int i = 0; i < count; i++) {
+            try {
+                ColdStartRequest request = new ColdStartRequest(functionId.toString(), s3Key, UUID.randomUUID().toString(), true, deadline);
+                stringRedisTemplate.opsForList().rightPush(queue, objectMapper.writeValueAsString(request));
+            } catch (Exception e) {
+                log.error("Failed to request provisioned container [{}]: {}", functionId, e.getMessage());
+                completePending(functionId);
+            }
+        }
+    }
+
+    @Override
+    public void completePending(UUID functionId) {
+        try {
+            stringRedisTemplate.opsForValue().decrement(PENDING_PREFIX + functionId);
+        } catch (Exception e) {
+            // TTL로 보정됨
+            log.warn("Failed to update pending count [{}]: {}", functionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void markProvisioned(String functionId, String member) {
+        stringRedisTemplate.opsForSet().add(MEMBERS_PREFIX + functionId, member);
+    }
+
+    @Override
+    public boolean isProvisioned(String functionId, String member) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(MEMBERS_PREFIX + functionId, member));
+    }
+
+    @Override
+    public void unmarkProvisioned(String functionId, String member) {
+        stringRedisTemplate.opsForSet().remove(MEMBERS_PREFIX + functionId, member);
+    }
+
+    @Override
+    public List<String> findIdleProvisioned(UUID functionId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(MEMBERS_PREFIX + functionId);
+        List<String> entries = stringRedisTemplate.opsForList().range(IDLE_QUEUE_PREFIX + functionId, 0, -1);
+        List<String> idle = new ArrayList<>();
+        if (members == null || members.isEmpty() || entries == null) {
+            return idle;
+        }
+        for (String entry : entries) {
+            String member = gcMember(functionId, entry);
+            if (member != null && members.contains(member)) {
+                idle.add(member);
+            }
+        }
+        return idle;
+    }
+
+    @Override
+    public void demoteProvisioned(UUID functionId, Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        // 제외만 해제 -> 마지막으로 연장된 만료 시각이 지나면 일반 GC가 정리
+        stringRedisTemplate.opsForSet().remove(MEMBERS_PREFIX + functionId, members.toArray());
+    }
+
+    @Override
+    public void demoteAllProvisioned(UUID functionId) {
+        stringRedisTemplate.delete(MEMBERS_PREFIX + functionId);
+    }
+
+    // 대기열 엔트리(ContainerInfo JSON) -> GC 멤버 "functionId:instanceId:agentIp"
+    // sockPath: instances/{functionId}/{instanceId}/sock/function.sock
+    private String gcMember(UUID functionId, String entry) {
+        try {
+            JsonNode node = objectMapper.readTree(entry);
+            String[] parts = node.path("sockPath").asText().split("/");
+            if (parts.length < 3) {
+                return null;
+            }
+            return functionId + ":" + parts[2] + ":" + node.path("agentIp").asText();
+        } catch (Exception e) {
+            log.warn("Invalid idle queue entry [{}]: {}", functionId, entry);
+            return null;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.hanyahunya.provisioner.application.port.in;
 import java.util.UUID;
 
 public interface ContainerUseCase {
-    void createAndRunContainer(Command command);
+    // [변경] 컨테이너를 만들어서 대기열에 넣었으면 true
+    boolean createAndRunContainer(Command command);
 
     record Command(
             UUID functionId,
-            String s3Key
+            String s3Key,
+            String nonce, // [추가] Cold Start 요청 식별자 (생성된 ContainerInfo에 그대로 실어 보냄)
+            boolean provisioned // [추가] Provisioned Concurrency로 생성 (GC 만료 제외)
     ) {}
 }
@@ -4,5 +4,19 @@ import java.nio.file.Path;
 
 public interface BlobStoragePort {
 
-    void downloadAndUnzip(String key, Path destinationDir);
+    /**
+     * [변경] 다운로드한 객체의 버전(ETag) 반환
+     * - [추가] 객체가 없으면 ObjectNotFoundException (그 외 실패는 일시적인 오류로 취급)
+     */
+    String downloadAndUnzip(String key, Path destinationDir);
+
+    // [추가] 현재 객체의 버전(ETag) 조회 (본문 없이 메타데이터만)
+    String getVersion(String key);
+
+    // [추가] 객체가 없음 -> 다시 시도해도 같은 결과
+    class ObjectNotFoundException extends RuntimeException {
+        public ObjectNotFoundException(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
@@ -7,13 +7,26 @@ public interface ContainerOrchestrationPort {
 
     String createAndStartContainer(
             Runtime runtime,
+            String functionId, // [추가] 컨테이너 라벨 (Docker 이벤트로 어떤 함수의 컨테이너인지 확인)
             String instanceId,
             Map<String, String> env,
             String hostCodePath,
             String hostSockPath
     );
 
+    /**
+     * [추가] 런타임 풀 컨테이너 (코드 없이 런타임만 부팅해서 대기)
+     * - hostCodePath는 비어 있는 인스턴스별 디렉토리, 할당 시 코드를 채우고 .ready 파일을 만들면 그때 코드를 로드
+     */
+    String createPooledContainer(Runtime runtime, String instanceId, String hostCodePath, String hostSockPath);
+
+    // [추가] 풀 컨테이너를 함수에 할당 (이후 종료 이벤트를 함수 기준으로 정리)
+    void assignFunction(String instanceId, String functionId);
+
+    boolean isContainerExited(String instanceId);
+
     void removeContainer(String instanceId);
 
+    // [변경] Docker 목록 조회 대신 이벤트로 유지하는 메모리 목록 기준 (ContainerInventory), 할당 전 풀 컨테이너 제외
     int getFunctionContainerCount();
 }
\ No newline at end of file
@@ -5,4 +5,10 @@ import java.util.UUID;
 
 public interface ContainerResultPort {
     void sendContainerInfo(UUID functionId, ContainerInfo info);
+
+    /**
+     * [추가] 컨테이너 생성 실패 알림 (대기 중인 Invoker가 타임아웃까지 기다리지 않도록)
+     * - permanent: 코드 패키지 없음 / config.json 오류 -> 같은 함수의 다른 요청도 같은 이유로 실패 (그 외에는 해당 요청만 실패)
+     */
+    void sendFailure(UUID functionId, String nonce, String reason, boolean permanent);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.hanyahunya.provisioner.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProvisionedConcurrencyPort {
+    // [Target] Registry가 기록한 함수별 유지 컨테이너 수
+    Map<UUID, Target> findTargets();
+
+    // [Target] 해제된(0) 함수 정리
+    void removeTarget(UUID functionId);
+
+    // [Idle] 현재 대기열(func:idle)에 있는 컨테이너 수
+    long countIdle(UUID functionId);
+
+    // [Pending] 요청했지만 아직 만들어지지 않은 컨테이너 수
+    long countPending(UUID functionId);
+
+    // [Pending] 생성 요청을 파티션 대기열에 적재 (일반 Cold Start와 같은 경로로 분산 처리)
+    void requestContainers(UUID functionId, String s3Key, int count);
+
+    // [Pending] 생성 완료/실패 시 차감
+    void completePending(UUID functionId);
+
+    // [GC 제외] GC 멤버("functionId:instanceId:agentIp") 단위로 관리
+    void markProvisioned(String functionId, String member);
+
+    boolean isProvisioned(String functionId, String member);
+
+    void unmarkProvisioned(String functionId, String member);
+
+    // [변경] 대기열(func:idle)에 있는 GC 제외 멤버 (대기열 순서, Invoker가 사용 중인 컨테이너는 제외)
+    List<String> findIdleProvisioned(UUID functionId);
+
+    // [GC 제외] [변경] 목표보다 많은 대기 컨테이너를 일반 만료 대상으로 되돌림
+    void demoteProvisioned(UUID functionId, Collection<String> members);
+
+    // [GC 제외] 해제된 함수의 제외 대상을 모두 되돌림
+    void demoteAllProvisioned(UUID functionId);
+
+    record Target(String s3Key, int target) {}
+}
@@ -1,11 +1,13 @@
 package com.hanyahunya.provisioner.application.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.provisioner.application.port.in.ContainerUseCase;
 import com.hanyahunya.provisioner.application.port.out.BlobStoragePort;
 import com.hanyahunya.provisioner.application.port.out.ContainerOrchestrationPort;
 import com.hanyahunya.provisioner.application.port.out.ContainerResultPort;
+import com.hanyahunya.provisioner.application.port.out.ProvisionedConcurrencyPort;
+import com.hanyahunya.provisioner.application.system.FunctionPackageCache;
 import com.hanyahunya.provisioner.application.system.ResourceCleanupService;
+import com.hanyahunya.provisioner.application.system.RuntimePoolService;
 import com.hanyahunya.provisioner.domain.model.ContainerInfo;
 import com.hanyahunya.provisioner.domain.model.FunctionConfig;
 import lombok.RequiredArgsConstructor;
@@ -14,12 +16,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
 
-import java.io.File;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.file.*;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -27,18 +28,16 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ContainerService implements ContainerUseCase {
 
-    private final BlobStoragePort blobStoragePort;
     private final ContainerOrchestrationPort containerOrchestrationPort;
     private final ContainerResultPort containerResultPort;
-    private final ObjectMapper objectMapper;
     private final ResourceCleanupService resourceCleanupService;
+    private final ProvisionedConcurrencyPort provisionedConcurrencyPort;
+    private final RuntimePoolService runtimePoolService;
+    private final FunctionPackageCache functionPackageCache;
 
     @Value("${app.paths.workspace:/opt/workspace}")
     private String workspacePath;
 
-    // [추가] 함수 ID별로 동시성 제어를 하기 위한 락 저장소
-    private final ConcurrentHashMap<String, Object> downloadLocks = new ConcurrentHashMap<>();
-
     private String getHostIp() {
         try {
             return InetAddress.getLocalHost().getHostAddress();
@@ -49,41 +48,45 @@ public class ContainerService implements ContainerUseCase {
     }
 
     @Override
-    public void createAndRunContainer(Command command) {
+    public boolean createAndRunContainer(Command command) {
         String functionIdStr = command.functionId().toString();
         String instanceId = UUID.randomUUID().toString();
 
-        Path codeDir = Paths.get(workspacePath, "packages", functionIdStr);
         Path instanceDir = Paths.get(workspacePath, "instances", functionIdStr, instanceId);
         Path sockDir = instanceDir.resolve("sock");
 
+        // [추가] 실패 단계 구분 (사용자에게 보여줄 원인 메시지용)
+        boolean codeReady = false;
+
         try {
-            // [핵심 로직] 코드 준비 단계 (동시성 제어 필요)
-            prepareFunctionCode(functionIdStr, codeDir, command.s3Key());
+            // [변경] 코드 준비 단계 -> 패키지 캐시 (S3 버전 확인 + 다운로드 동시성 제어 + config.json 메모리 보관)
+            FunctionPackageCache.FunctionPackage functionPackage = functionPackageCache.acquire(functionIdStr, command.s3Key());
+            Path codeDir = functionPackage.codeDir();
+            FunctionConfig config = functionPackage.config();
+            codeReady = true;
 
             // --- 실행 환경 준비 단계 (여기는 인스턴스별로 경로가 다르므로 동시성 문제 없음) ---
 
-            // config.json 읽기 (위 단계에서 다운로드가 끝났으므로 안전)
-            File configFile = codeDir.resolve("config.json").toFile();
-            FunctionConfig config;
-            try {
-                config = objectMapper.readValue(configFile, FunctionConfig.class);
-            } catch (Exception e) {
-                log.error("Failed to parse config.json. Deleting package: {}", functionIdStr);
-                FileSystemUtils.deleteRecursively(codeDir);
-                throw e;
-            }
-
-            Files.createDirectories(sockDir);
-
             // 1. 컨테이너 실행
-            containerOrchestrationPort.createAndStartContainer(
-                    config.runtime(),
-                    instanceId,
-                    config.env(),
-                    codeDir.toAbsolutePath().toString(),
-                    sockDir.toAbsolutePath().toString()
-            );
+            // [추가] 같은 런타임의 풀 컨테이너가 있으면 코드만 연결 (create/start + 런타임 부팅 생략)
+            Optional<String> pooled = runtimePoolService.claim(config.runtime(), functionIdStr, codeDir, config.env());
+            if (pooled.isPresent()) {
+                instanceId = pooled.get();
+                instanceDir = Paths.get(workspacePath, "instances", functionIdStr, instanceId);
+                sockDir = instanceDir.resolve("sock");
+            } else {
+                Files.createDirectories(sockDir);
+                containerOrchestrationPort.createAndStartContainer(
+                        config.runtime(),
+                        functionIdStr,
+                        instanceId,
+                        config.env(),
+                        codeDir.toAbsolutePath().toString(),
+                        sockDir.toAbsolutePath().toString()
+                );
+            }
+            // [추가] 이 인스턴스가 사용하는 패키지 버전 기록 (사용 중인 패키지는 캐시에서 삭제하지 않음)
+            functionPackageCache.markInstance(instanceDir, functionPackage);
 
             // 2. [추가됨] 소켓 파일이 생성될 때까지 대기 (가상 스레드 효율적 방식)
             // 컨테이너 내부 앱이 부팅되어 파일을 만들 때까지 Invoker에게 알리지 않고 기다림
@@ -92,24 +95,53 @@ public class ContainerService implements ContainerUseCase {
 
             // 3. 리소스 모니터링 등록
             String currentHostIp = getHostIp();
-            resourceCleanupService.registerContainer(functionIdStr, instanceId, currentHostIp);
+            String gcMember = resourceCleanupService.registerContainer(functionIdStr, instanceId, currentHostIp);
 
             // 4. 결과 전송
             String relativeSockPath = String.format("instances/%s/%s/sock/function.sock", functionIdStr, instanceId);
-            ContainerInfo info = new ContainerInfo(currentHostIp, relativeSockPath);
+            // [변경] nonce를 실어서 보냄 -> Invoker가 새 컨테이너인지(반납된 Warm 컨테이너가 아닌지) 구분
+            String nonce = (command.nonce() != null) ? command.nonce() : UUID.randomUUID().toString();
+            ContainerInfo info = new ContainerInfo(currentHostIp, relativeSockPath, nonce);
 
             containerResultPort.sendContainerInfo(command.functionId(), info);
+            if (command.provisioned()) {
+                // [추가] GC 만료 제외 등록 (등록 직후 15분은 일반 만료 전이므로 전송 이후에 표시해도 안전)
+                provisionedConcurrencyPort.markProvisioned(functionIdStr, gcMember);
+            }
             log.info("Provisioning Done. Host: {}, Instance: {}, Path: {}", currentHostIp, instanceId, relativeSockPath);
+            return true;
 
         } catch (Exception e) {
             log.error("Provisioning Failed for [{}]: {}", functionIdStr, e.getMessage(), e);
+            // [추가] 대기 중인 Invoker에 바로 알림 (Provisioned 요청은 대기자가 없음)
+            if (!command.provisioned()) {
+                containerResultPort.sendFailure(command.functionId(), command.nonce(), failureReason(e, codeReady), isPermanent(e));
+            }
             try {
                 containerOrchestrationPort.removeContainer(instanceId);
                 FileSystemUtils.deleteRecursively(instanceDir);
             } catch (Exception cleanupEx) { /* 무시 */ }
+            return false;
+        } finally {
+            if (command.provisioned()) {
+                provisionedConcurrencyPort.completePending(command.functionId());
+            }
         }
     }
 
+    // [변경] 함수 자체의 문제(패키지 없음 / config.json 오류)만 영구 실패 -> 같은 함수의 다른 대기자도 실패 처리
+    // S3 일시 장애, 디스크 부족, 컨테이너 시작 실패 등은 해당 요청만 실패
+    private static boolean isPermanent(Exception e) {
+        return e instanceof BlobStoragePort.ObjectNotFoundException
+                || e instanceof FunctionPackageCache.InvalidPackageException;
+    }
+
+    // 사용자에게 보여줄 수 있는 수준의 원인만 전달 (내부 경로/스택은 로그로만)
+    private static String failureReason(Exception e, boolean codeReady) {
+        String stage = codeReady ? "Container start failed" : "Function package unavailable";
+        return stage + ": " + e.getClass().getSimpleName();
+    }
+
     /**
      * [추가] WatchService를 이용한 파일 생성 대기 (최대 5초)
      * 가상 스레드 환경에서 Thread.sleep보다 효율적이며, 파일 생성 즉시 반응합니다.
@@ -154,42 +186,4 @@ public class ContainerService implements ContainerUseCase {
             log.warn("Socket file not found within timeout (5s): {}", socketPath);
         }
     }
-
-    /**
-     * [추가] 함수 코드가 없으면 다운로드합니다.
-     * 동일한 함수 ID에 대해 동시에 여러 요청이 오면 하나만 다운로드를 수행하도록 동기화합니다.
-     */
-    private void prepareFunctionCode(String functionId, Path codeDir, String s3Key) throws Exception {
-        // 이 함수 ID 전용 락 객체를 가져옵니다. (없으면 생성)
-        Object lock = downloadLocks.computeIfAbsent(functionId, k -> new Object());
-
-        synchronized (lock) {
-            File configFile = codeDir.resolve("config.json").toFile();
-
-            // 1. 좀비 폴더 정리 (폴더는 있는데 config가 없는 경우)
-            if (Files.exists(codeDir) && !configFile.exists()) {
-                log.warn("Corrupted function package detected. Deleting: {}", functionId);
-                FileSystemUtils.deleteRecursively(codeDir);
-            }
-
-            // 2. 다운로드 (폴더가 없을 때만)
-            if (!Files.exists(codeDir)) {
-                Files.createDirectories(codeDir);
-                try {
-                    log.info("Downloading code for function: {} (Thread Safe)", functionId);
-                    blobStoragePort.downloadAndUnzip(s3Key, codeDir);
-                } catch (Exception e) {
-                    // 실패 시 빈 폴더 삭제
-                    FileSystemUtils.deleteRecursively(codeDir);
-                    throw e;
-                }
-            }
-
-            // 3. 최종 확인
-            if (!codeDir.resolve("config.json").toFile().exists()) {
-                FileSystemUtils.deleteRecursively(codeDir);
-                throw new RuntimeException("config.json missing after download.");
-            }
-        }
-    }
 }
\ No newline at end of file
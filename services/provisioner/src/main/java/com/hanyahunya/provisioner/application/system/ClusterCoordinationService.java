@@ -22,6 +22,7 @@ public class ClusterCoordinationService {
 
     private final ClusterStatePort clusterStatePort;
     private final WorkerManagementPort workerManagementPort;
+    private final ProvisionedConcurrencyReconciler provisionedConcurrencyReconciler;
 
     private final String myNodeId = UUID.randomUUID().toString();
     private static final int TOTAL_PARTITIONS = 16384;
@@ -52,6 +53,8 @@ public class ClusterCoordinationService {
 
         if (isLeader) {
             rebalancePartitions();
+            // [추가] 중복 생성 방지를 위해 리더만 유지 컨테이너 수를 맞춤
+            provisionedConcurrencyReconciler.reconcile();
         }
     }
 
@@ -0,0 +1,339 @@
+package com.hanyahunya.provisioner.application.system;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.provisioner.application.port.out.BlobStoragePort;
+import com.hanyahunya.provisioner.domain.model.FunctionConfig;
+import com.hanyahunya.provisioner.infra.config.PackageCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * [추가] 함수 패키지 디스크 캐시 (packages/{functionId}@{version})
+ * - 버전 = S3 ETag -> 같은 키로 코드가 다시 올라와도 revalidateInterval 안에 새 버전으로 교체 (수동 삭제 불필요)
+ * - 파싱한 config.json은 메모리에 보관 (Cold Start마다 디스크에서 다시 읽지 않음)
+ * - 전체 용량이 diskBudget을 넘으면 오래 사용하지 않은 패키지부터 삭제 (LRU), 이전 버전은 사용이 끝나는 대로 삭제
+ * - 실행 중인 인스턴스가 쓰는 패키지는 삭제하지 않음 (인스턴스 디렉토리의 .package 마커로 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FunctionPackageCache {
+
+    public record FunctionPackage(Path codeDir, String version, FunctionConfig config) {}
+
+    // [추가] 패키지 내용 자체가 잘못됨 (config.json 없음 / 파싱 실패) -> 다시 받아도 같은 결과
+    public static class InvalidPackageException extends RuntimeException {
+        public InvalidPackageException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static final String VERSION_SEPARATOR = "@";
+    private static final String TEMP_DIR = ".tmp";
+    private static final String PACKAGE_MARKER = ".package";
+    // 패키지를 받아간 뒤 인스턴스 디렉토리(마커)가 생기기 전까지는 사용 여부를 알 수 없으므로 최근 사용분은 삭제 보류
+    private static final long RECENT_USE_GRACE_MILLIS = 60000;
+
+    private final BlobStoragePort blobStoragePort;
+    private final ObjectMapper objectMapper;
+    private final PackageCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.paths.workspace:/opt/workspace}")
+    private String workspacePath;
+
+    // Key: functionId, Value: 현재 버전
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    // Key: 패키지 디렉토리, Value: 디스크에 있는 모든 패키지 (이전 버전 포함)
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    // 함수 ID별 다운로드/교체/삭제 락
+    private final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final class Entry {
+        private final String functionId;
+        private final String version;
+        private final Path dir;
+        private final long size;
+        // 시작 시 디스크에서 찾은 패키지는 처음 사용할 때 파싱
+        private volatile FunctionConfig config;
+        private volatile long lastAccess;
+        // 마지막 S3 버전 확인 시각 (0: 다음 사용 시 확인)
+        private volatile long checkedAt;
+
+        private Entry(String functionId, String version, Path dir, long size, long lastAccess) {
+            this.functionId = functionId;
+            this.version = version;
+            this.dir = dir;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("provisioner.package_cache.bytes", totalBytes, AtomicLong::get)
+                .description("Unpacked function packages on this node")
+                .register(meterRegistry);
+
+        Path root = packagesRoot();
+        FileSystemUtils.deleteRecursively(root.resolve(TEMP_DIR).toFile());
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        // 이전 실행에서 받아둔 패키지 색인 (현재 버전인지는 처음 사용할 때 S3로 확인)
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(Files::isDirectory).forEach(dir -> {
+                String name = dir.getFileName().toString();
+                int separator = name.lastIndexOf(VERSION_SEPARATOR);
+                // 버전 없는 디렉토리 = 이전 배치(packages/{functionId}) -> 이전 버전으로 취급, 사용이 끝나면 삭제
+                String functionId = (separator < 0) ? name : name.substring(0, separator);
+                String version = (separator < 0) ? "" : name.substring(separator + 1);
+
+                Entry entry = new Entry(functionId, version, dir, sizeOf(dir), lastModified(dir));
+                register(entry);
+                if (separator >= 0 && Files.exists(dir.resolve("config.json"))) {
+                    current.merge(functionId, entry, (a, b) -> a.lastAccess >= b.lastAccess ? a : b);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Failed to index function packages: {}", e.getMessage());
+        }
+        log.info("Function package cache loaded: {} packages, {} bytes", entries.size(), totalBytes.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 함수 패키지 준비 (없거나 S3 버전이 바뀌었으면 다운로드)
+     * 동일한 함수 ID에 대해 동시에 여러 요청이 오면 하나만 다운로드를 수행
+     */
+    public FunctionPackage acquire(String functionId, String s3Key) throws Exception {
+        Object lock = locks.computeIfAbsent(functionId, k -> new Object());
+
+        synchronized (lock) {
+            long now = System.currentTimeMillis();
+            Entry entry = current.get(functionId);
+
+            if (entry != null && now - entry.checkedAt >= properties.revalidateInterval().toMillis()) {
+                String latest = latestVersion(functionId, s3Key);
+                if (latest == null || latest.equals(entry.version)) {
+                    entry.checkedAt = now;
+                    recordLookup("hit");
+                } else {
+                    log.info("Function package updated [{}]: {} -> {}", functionId, entry.version, latest);
+                    recordLookup("stale");
+                    entry = null;
+                }
+            } else if (entry != null) {
+                recordLookup("hit");
+            } else {
+                recordLookup("miss");
+            }
+
+            if (entry == null) {
+                entry = download(functionId, s3Key);
+                entry.checkedAt = now;
+                current.put(functionId, entry);
+                // 이전 버전 정리 / 용량 확인은 Cold Start 경로 밖에서
+                executor.execute(this::evict);
+            }
+
+            entry.lastAccess = now;
+            return new FunctionPackage(entry.dir, entry.version, config(entry));
+        }
+    }
+
+    /**
+     * 인스턴스가 사용하는 패키지 버전 기록 (인스턴스 디렉토리가 정리되면 해당 패키지 삭제 가능)
+     */
+    public void markInstance(Path instanceDir, FunctionPackage functionPackage) throws IOException {
+        Files.writeString(instanceDir.resolve(PACKAGE_MARKER), functionPackage.version());
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long budget = properties.diskBudget().toBytes();
+
+            List<Entry> candidates = entries.values().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.lastAccess))
+                    .toList();
+            for (Entry entry : candidates) {
+                boolean superseded = current.get(entry.functionId) != entry;
+                if ((!superseded && totalBytes.get() <= budget) || now - entry.lastAccess < RECENT_USE_GRACE_MILLIS) {
+                    continue;
+                }
+                synchronized (locks.computeIfAbsent(entry.functionId, k -> new Object())) {
+                    if (!entries.containsKey(entry.dir) || hasLiveInstances(entry)) {
+                        continue;
+                    }
+                    current.remove(entry.functionId, entry);
+                    unregister(entry);
+                    FileSystemUtils.deleteRecursively(entry.dir.toFile());
+                }
+                meterRegistry.counter("provisioner.package_cache.evicted", "reason", superseded ? "superseded" : "budget").increment();
+                log.info("Evicted function package [{}]: {} ({} bytes)", entry.functionId, entry.version, entry.size);
+            }
+
+            if (totalBytes.get() > budget) {
+                log.warn("Function package cache over budget: {} / {} bytes (packages in use)", totalBytes.get(), budget);
+            }
+        } catch (Exception e) {
+            log.error("Failed to evict function packages: {}", e.getMessage());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    // S3 장애 시에는 받아둔 패키지를 그대로 사용 (null)
+    private String latestVersion(String functionId, String s3Key) {
+        try {
+            return version(blobStoragePort.getVersion(s3Key));
+        } catch (Exception e) {
+            log.warn("Failed to check package version [{}], using cached package: {}", functionId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 임시 디렉토리에 받은 뒤 한 번에 이동 (압축 해제 중 실패해도 반쯤 풀린 패키지가 남지 않도록)
+    private Entry download(String functionId, String s3Key) throws IOException {
+        Path tempDir = packagesRoot().resolve(TEMP_DIR).resolve(UUID.randomUUID().toString());
+        Files.createDirectories(tempDir);
+        try {
+            log.info("Downloading code for function: {}", functionId);
+            String version = version(blobStoragePort.downloadAndUnzip(s3Key, tempDir));
+            if (!Files.exists(tempDir.resolve("config.json"))) {
+                throw new InvalidPackageException("config.json missing after download.", null);
+            }
+
+            Path dir = packagesRoot().resolve(functionId + VERSION_SEPARATOR + version);
+            Entry existing = entries.get(dir);
+            if (existing != null) {
+                // 이전 버전으로 되돌린 경우 등 -> 남아 있던 패키지 재사용
+                return existing;
+            }
+            FileSystemUtils.deleteRecursively(dir.toFile());
+            Files.move(tempDir, dir, StandardCopyOption.ATOMIC_MOVE);
+
+            Entry entry = new Entry(functionId, version, dir, sizeOf(dir), System.currentTimeMillis());
+            register(entry);
+            return entry;
+        } finally {
+            FileSystemUtils.deleteRecursively(tempDir.toFile());
+        }
+    }
+
+    private FunctionConfig config(Entry entry) throws IOException {
+        FunctionConfig config = entry.config;
+        if (config != null) {
+            return config;
+        }
+        try {
+            config = objectMapper.readValue(entry.dir.resolve("config.json").toFile(), FunctionConfig.class);
+        } catch (IOException e) {
+            log.error("Failed to parse config.json. Deleting package: {}", entry.functionId);
+            current.remove(entry.functionId, entry);
+            unregister(entry);
+            FileSystemUtils.deleteRecursively(entry.dir.toFile());
+            if (e instanceof JsonProcessingException) {
+                throw new InvalidPackageException("Invalid config.json", e);
+            }
+            throw e;
+        }
+        entry.config = config;
+        return config;
+    }
+
+    private boolean hasLiveInstances(Entry entry) {
+        Path functionDir = Paths.get(workspacePath, "instances", entry.functionId);
+        if (!Files.isDirectory(functionDir)) {
+            return false;
+        }
+        try (Stream<Path> instances = Files.list(functionDir)) {
+            return instances.anyMatch(instanceDir -> usesVersion(instanceDir, entry.version));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static boolean usesVersion(Path instanceDir, String version) {
+        try {
+            return version.equals(Files.readString(instanceDir.resolve(PACKAGE_MARKER)).trim());
+        } catch (IOException e) {
+            // 마커가 없는 인스턴스 (업그레이드 전에 만든 컨테이너 등) -> 어떤 버전인지 모르므로 사용 중으로 봄
+            return true;
+        }
+    }
+
+    private void register(Entry entry) {
+        if (entries.putIfAbsent(entry.dir, entry) == null) {
+            totalBytes.addAndGet(entry.size);
+        }
+    }
+
+    private void unregister(Entry entry) {
+        if (entries.remove(entry.dir, entry)) {
+            totalBytes.addAndGet(-entry.size);
+        }
+    }
+
+    private void recordLookup(String result) {
+        meterRegistry.counter("provisioner.package_cache.lookup", "result", result).increment();
+    }
+
+    private Path packagesRoot() {
+        return Paths.get(workspacePath, "packages");
+    }
+
+    // ETag는 따옴표로 감싸져 있고 멀티파트 업로드면 "-N"이 붙음 -> 디렉토리 이름으로 쓸 수 있는 문자만 남김
+    private static String version(String eTag) {
+        String version = (eTag != null) ? eTag.replaceAll("[^A-Za-z0-9-]", "") : "";
+        return version.isEmpty() ? "unversioned" : version;
+    }
+
+    private static long sizeOf(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path dir) {
+        return dir.toFile().lastModified();
+    }
+}
@@ -0,0 +1,59 @@
+package com.hanyahunya.provisioner.application.system;
+
+import com.hanyahunya.provisioner.application.port.out.ProvisionedConcurrencyPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * [추가] Provisioned Concurrency 유지 (리더 노드만 실행)
+ * - 대기열(func:idle) + 생성 중인 컨테이너가 목표보다 적으면 부족한 만큼 생성 요청
+ * - 생성된 컨테이너는 GC 만료에서 제외, 목표보다 많아지면 초과분은 일반 만료 대상으로 되돌림
+ * - [변경] 보충과 되돌림 모두 대기열 기준 -> 부하 중 사용 중인 컨테이너만큼 보충한 컨테이너를 바로 되돌리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProvisionedConcurrencyReconciler {
+
+    private final ProvisionedConcurrencyPort provisionedConcurrencyPort;
+
+    public void reconcile() {
+        provisionedConcurrencyPort.findTargets().forEach((functionId, target) -> {
+            try {
+                reconcile(functionId, target);
+            } catch (Exception e) {
+                log.error("Failed to reconcile provisioned concurrency [{}]: {}", functionId, e.getMessage());
+            }
+        });
+    }
+
+    private void reconcile(UUID functionId, ProvisionedConcurrencyPort.Target target) {
+        // 해제된 함수는 제외 대상을 모두 되돌린 뒤 목록에서 삭제
+        if (target.target() <= 0) {
+            provisionedConcurrencyPort.demoteAllProvisioned(functionId);
+            provisionedConcurrencyPort.removeTarget(functionId);
+            return;
+        }
+
+        // [변경] 대기 중인 제외 대상이 목표보다 많을 때만, 대기 중인 것 중에서 되돌림 (사용 중인 컨테이너는 건드리지 않음)
+        // - 대기열 뒤쪽(가장 늦게 꺼내질 컨테이너)부터
+        List<String> idleProvisioned = provisionedConcurrencyPort.findIdleProvisioned(functionId);
+        int excess = idleProvisioned.size() - target.target();
+        if (excess > 0) {
+            log.info("Demoting idle provisioned containers [{}]: {} (target: {})", functionId, excess, target.target());
+            provisionedConcurrencyPort.demoteProvisioned(functionId,
+                    idleProvisioned.subList(idleProvisioned.size() - excess, idleProvisioned.size()));
+        }
+
+        long available = provisionedConcurrencyPort.countIdle(functionId) + provisionedConcurrencyPort.countPending(functionId);
+        long deficit = target.target() - available;
+        if (deficit > 0) {
+            log.info("Topping up provisioned containers [{}]: {} (target: {})", functionId, deficit, target.target());
+            provisionedConcurrencyPort.requestContainers(functionId, target.s3Key(), (int) deficit);
+        }
+    }
+}
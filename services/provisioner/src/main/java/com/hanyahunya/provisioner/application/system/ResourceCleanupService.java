@@ -1,12 +1,13 @@
 package com.hanyahunya.provisioner.application.system;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanyahunya.provisioner.application.port.out.ContainerOrchestrationPort;
-import com.hanyahunya.provisioner.domain.model.ContainerInfo;
+import com.hanyahunya.provisioner.application.port.out.ProvisionedConcurrencyPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
@@ -15,6 +16,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -25,7 +27,7 @@ public class ResourceCleanupService {
 
     private final ContainerOrchestrationPort containerPort;
     private final StringRedisTemplate stringRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private final ProvisionedConcurrencyPort provisionedConcurrencyPort;
 
     @Value("${app.paths.workspace:/opt/workspace}")
     private String workspacePath;
@@ -33,6 +35,10 @@ public class ResourceCleanupService {
     private static final String GC_CONTAINER_KEY = "prov:gc:container";
     private static final String IDLE_QUEUE_PREFIX = "func:idle:";
 
+    // [추가] 대기열 검색 + 제거를 Redis 안에서 한 번에 처리
+    private static final RedisScript<Long> REMOVE_IDLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/remove_idle_container.lua"), Long.class);
+
     // 내 서버 IP 확인용
     private String getMyHostIp() {
         try {
@@ -45,8 +51,9 @@ public class ResourceCleanupService {
     /**
      * [수정됨] 컨테이너 등록 시 IP 정보도 함께 저장합니다.
      * 저장 포맷: "functionId:instanceId:agentIp"
+     * @return 등록한 GC 멤버
      */
-    public void registerContainer(String functionId, String instanceId, String agentIp) {
+    public String registerContainer(String functionId, String instanceId, String agentIp) {
         // 구분자로 합쳐서 저장 (IP가 있어야 나중에 JSON을 재조립해서 지울 수 있음)
         String member = functionId + ":" + instanceId + ":" + agentIp;
 
@@ -54,6 +61,7 @@ public class ResourceCleanupService {
         stringRedisTemplate.opsForZSet().add(GC_CONTAINER_KEY, member, expiryTime);
 
         log.info("Registered for Cleanup: {} (Expires in 15min)", member);
+        return member;
     }
 
     @Scheduled(fixedRate = 60000)
@@ -77,6 +85,20 @@ public class ResourceCleanupService {
                 String instanceId = parts[1];
                 String targetAgentIp = parts[2];
 
+                // [추가] Provisioned 컨테이너는 주인 노드가 만료만 연장 (주인이 죽었으면 유예 기간 이후 일반 정리)
+                if (provisionedConcurrencyPort.isProvisioned(functionId, member)) {
+                    Double provisionedScore = stringRedisTemplate.opsForZSet().score(GC_CONTAINER_KEY, member);
+                    boolean ownerAlive = provisionedScore == null || now - provisionedScore.longValue() <= gracePeriod;
+                    if (targetAgentIp.equals(myIp)) {
+                        stringRedisTemplate.opsForZSet().add(GC_CONTAINER_KEY, member, now + TimeUnit.MINUTES.toMillis(15));
+                        continue;
+                    }
+                    if (ownerAlive) {
+                        continue;
+                    }
+                    provisionedConcurrencyPort.unmarkProvisioned(functionId, member);
+                }
+
                 // 2. Redis Idle List 청소 (글로벌: 누구나 수행)
                 // 이미 삭제되었어도 멱등성(Idempotency)이 있으므로 실행해도 안전
                 removeFromIdleQueue(functionId, instanceId, targetAgentIp);
@@ -111,6 +133,41 @@ public class ResourceCleanupService {
         }
     }
 
+    /**
+     * [추가] Invoker의 즉시 제거 요청 처리 (GC 만료를 기다리지 않음)
+     * - 멤버 포맷: "functionId:instanceId:agentIp"
+     * - 컨테이너가 떠 있는 노드(주인)만 처리, 나머지는 무시
+     */
+    public void evictContainer(String member) {
+        String[] parts = member.split(":");
+        if (parts.length != 3) {
+            log.warn("Invalid container remove request: {}", member);
+            return;
+        }
+        String functionId = parts[0];
+        String instanceId = parts[1];
+        String targetAgentIp = parts[2];
+
+        if (!targetAgentIp.equals(getMyHostIp())) {
+            return;
+        }
+
+        log.info("Evicting container on request: {}", instanceId);
+        provisionedConcurrencyPort.unmarkProvisioned(functionId, member);
+        removeFromIdleQueue(functionId, instanceId, targetAgentIp);
+        deleteContainerResources(functionId, instanceId);
+        stringRedisTemplate.opsForZSet().remove(GC_CONTAINER_KEY, member);
+    }
+
+    /**
+     * [추가] 실행 중이던 컨테이너가 예기치 않게 종료된 경우 (OOM Kill 등, Docker 이벤트로 감지)
+     * - Invoker가 죽은 컨테이너를 꺼내 쓰지 않도록 대기열에서 바로 빼고 리소스 정리 (GC 만료까지 기다리지 않음)
+     */
+    public void handleContainerExit(String functionId, String instanceId, String reason) {
+        log.warn("Container exited unexpectedly ({}): {} [{}]", reason, instanceId, functionId);
+        evictContainer(functionId + ":" + instanceId + ":" + getMyHostIp());
+    }
+
     private void removeFromIdleQueue(String functionId, String instanceId, String agentIp) {
         String key = IDLE_QUEUE_PREFIX + functionId;
 
@@ -118,12 +175,8 @@ public class ResourceCleanupService {
         String targetSockPath = String.format("instances/%s/%s/sock/function.sock", functionId, instanceId);
 
         try {
-            // Redis에 저장된 것과 똑같은 JSON 객체 생성 (IP 포함)
-            ContainerInfo targetInfo = new ContainerInfo(agentIp, targetSockPath);
-            String jsonToRemove = objectMapper.writeValueAsString(targetInfo);
-
-            // LREM: 리스트에서 정확히 일치하는 JSON 값을 찾아 삭제
-            Long removedCount = stringRedisTemplate.opsForList().remove(key, 0, jsonToRemove);
+            // [변경] 새 컨테이너는 nonce가 붙어 있어 JSON이 다를 수 있음 -> 같은 컨테이너(IP + SockPath) 검색과 LREM을 Lua 한 번으로
+            Long removedCount = stringRedisTemplate.execute(REMOVE_IDLE_SCRIPT, List.of(key), agentIp, targetSockPath);
 
             if (removedCount != null && removedCount > 0) {
                 log.info("Removed from Redis Idle Queue: [IP:{}] {}", agentIp, instanceId);
@@ -0,0 +1,324 @@
+package com.hanyahunya.provisioner.application.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.provisioner.application.port.out.ContainerOrchestrationPort;
+import com.hanyahunya.provisioner.domain.model.Runtime;
+import com.hanyahunya.provisioner.infra.config.RuntimePoolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * [추가] 런타임별 사전 생성 컨테이너 풀 (코드는 할당 시점에 연결)
+ * - 풀 컨테이너는 비어 있는 인스턴스별 코드 디렉토리를 마운트한 채 런타임만 부팅해서 .ready 파일을 기다림
+ * - 할당: 인스턴스 디렉토리를 함수 경로로 옮기고 패키지를 하드링크로 채운 뒤 .ready(함수 환경 변수) 생성
+ *   -> Cold Start에서 컨테이너 create/start + 런타임 부팅 시간이 빠지고 사용자 코드 import만 남음
+ * - 풀 크기는 런타임별 최근 요청률(EWMA) x 보충 시간으로 조정 (요청이 끊기면 minSize까지 줄어듦)
+ * - [추가] 할당 전에 멈춘 컨테이너가 이어지면(이미지/부트스트랩 문제 등) 보충 간격을 지수적으로 늘림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RuntimePoolService {
+
+    private static final String POOL_DIR = "_pool";
+    private static final String READY_FILE = ".ready";
+    private static final long TICK_MILLIS = 1000;
+    // 이보다 낮은 요청률(10분에 1회 미만)은 요청이 없는 것으로 봄
+    private static final double IDLE_RATE = 1.0 / 600;
+    // 생성 실패 시 다음 보충까지 대기 (이미지가 없는 경우 등 매 tick 재시도 방지)
+    private static final long CREATE_BACKOFF_MILLIS = 30000;
+    // [추가] 할당 전 종료가 이어질 때의 최대 대기 (CREATE_BACKOFF_MILLIS부터 두 배씩)
+    private static final long MAX_EXIT_BACKOFF_MILLIS = 300000;
+
+    private final ContainerOrchestrationPort containerOrchestrationPort;
+    private final RuntimePoolProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.paths.workspace:/opt/workspace}")
+    private String workspacePath;
+
+    private final Map<Runtime, RuntimePool> pools = new EnumMap<>(Runtime.class);
+
+    // 컨테이너 생성/제거는 스케줄러 스레드를 막지 않도록 가상 스레드에서 수행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private record PooledContainer(String instanceId) {}
+
+    @PostConstruct
+    public void init() {
+        if (!properties.enabled()) {
+            return;
+        }
+        // 이전 실행에서 할당되지 않고 남은 풀 컨테이너 정리 (할당된 컨테이너는 디렉토리가 함수 경로로 옮겨져 있음)
+        removeLeftovers();
+
+        properties.runtimes().forEach(runtime -> {
+            RuntimePool pool = new RuntimePool();
+            pools.put(runtime, pool);
+            Gauge.builder("provisioner.runtime_pool.size", pool.idle, ConcurrentLinkedDeque::size)
+                    .tag("runtime", runtime.name())
+                    .description("Pre-started containers waiting for code")
+                    .register(meterRegistry);
+        });
+        log.info("Runtime pool enabled for {}", properties.runtimes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        pools.values().forEach(pool -> {
+            PooledContainer container;
+            while ((container = pool.idle.pollFirst()) != null) {
+                discard(container);
+            }
+        });
+    }
+
+    /**
+     * 같은 런타임의 풀 컨테이너를 함수에 할당
+     * @param codeDir 다운로드된 함수 패키지 (packages/{functionId})
+     * @return 할당된 instanceId (인스턴스 디렉토리는 instances/{functionId}/{instanceId}), 풀이 비어 있으면 empty
+     */
+    public Optional<String> claim(Runtime runtime, String functionId, Path codeDir, Map<String, String> env) {
+        RuntimePool pool = pools.get(runtime);
+        if (pool == null) {
+            return Optional.empty();
+        }
+        pool.demand.incrementAndGet();
+
+        PooledContainer container;
+        // 오래 대기한 컨테이너부터 (부팅이 끝났을 가능성이 높음)
+        while ((container = pool.idle.pollFirst()) != null) {
+            if (containerOrchestrationPort.isContainerExited(container.instanceId())) {
+                pool.onEarlyExit();
+                discard(container);
+                continue;
+            }
+            try {
+                bind(container, functionId, codeDir, env);
+                // [추가] 할당까지 살아 있었으면 런타임은 정상
+                pool.earlyExits.set(0);
+                recordClaim(runtime, "hit");
+                log.info("Claimed pooled container [{}] for function: {}", runtime, functionId);
+                return Optional.of(container.instanceId());
+            } catch (Exception e) {
+                log.warn("Failed to bind pooled container {}: {}", container.instanceId(), e.getMessage());
+                discard(container);
+                FileSystemUtils.deleteRecursively(instanceDir(functionId, container.instanceId()).toFile());
+            }
+        }
+        recordClaim(runtime, "miss");
+        return Optional.empty();
+    }
+
+    // 1초마다 요청률 갱신 + 목표 크기에 맞춰 보충/축소
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void maintain() {
+        if (pools.isEmpty()) {
+            return;
+        }
+        double alpha = 1 - Math.pow(0.5, (double) TICK_MILLIS / properties.demandHalfLife().toMillis());
+        int total = pools.values().stream().mapToInt(RuntimePool::size).sum();
+
+        for (Map.Entry<Runtime, RuntimePool> entry : pools.entrySet()) {
+            Runtime runtime = entry.getKey();
+            RuntimePool pool = entry.getValue();
+
+            double rate = pool.updateRate(alpha, TICK_MILLIS / 1000.0);
+            pool.idle.removeIf(container -> {
+                if (containerOrchestrationPort.isContainerExited(container.instanceId())) {
+                    log.warn("Pooled container exited before claim: {}", container.instanceId());
+                    pool.onEarlyExit();
+                    executor.execute(() -> discard(container));
+                    return true;
+                }
+                return false;
+            });
+
+            int target = targetSize(rate);
+            int current = pool.size();
+            if (current < target) {
+                if (System.currentTimeMillis() < pool.backoffUntil) {
+                    continue;
+                }
+                int toCreate = Math.min(target - current, properties.maxTotal() - total);
+                for (int i = 0; i < toCreate; i++) {
+                    create(runtime, pool);
+                }
+                total += Math.max(toCreate, 0);
+            } else {
+                // 새로 만든 컨테이너부터 제거 (오래된 컨테이너는 부팅이 끝나 있으므로 남김)
+                PooledContainer excess;
+                while (pool.idle.size() > target && (excess = pool.idle.pollLast()) != null) {
+                    PooledContainer removed = excess;
+                    total--;
+                    executor.execute(() -> discard(removed));
+                }
+            }
+        }
+    }
+
+    // 보충하는 동안 들어올 요청 수 + 여유 1개 (요청이 없으면 minSize)
+    private int targetSize(double rate) {
+        int size = 0;
+        if (rate >= IDLE_RATE) {
+            size = (int) Math.ceil(rate * properties.refillTime().toMillis() / 1000.0) + 1;
+        }
+        return Math.max(properties.minSize(), Math.min(size, properties.maxSize()));
+    }
+
+    private void create(Runtime runtime, RuntimePool pool) {
+        pool.creating.incrementAndGet();
+        executor.execute(() -> {
+            String instanceId = UUID.randomUUID().toString();
+            Path instanceDir = poolRoot().resolve(instanceId);
+            try {
+                Path codeDir = Files.createDirectories(instanceDir.resolve("code"));
+                Path sockDir = Files.createDirectories(instanceDir.resolve("sock"));
+                containerOrchestrationPort.createPooledContainer(
+                        runtime,
+                        instanceId,
+                        codeDir.toAbsolutePath().toString(),
+                        sockDir.toAbsolutePath().toString()
+                );
+                pool.idle.offerLast(new PooledContainer(instanceId));
+            } catch (Exception e) {
+                log.warn("Failed to create pooled container [{}]: {}", runtime, e.getMessage());
+                pool.backoffUntil = System.currentTimeMillis() + CREATE_BACKOFF_MILLIS;
+                containerOrchestrationPort.removeContainer(instanceId);
+                FileSystemUtils.deleteRecursively(instanceDir.toFile());
+            } finally {
+                pool.creating.decrementAndGet();
+            }
+        });
+    }
+
+    private void bind(PooledContainer container, String functionId, Path codeDir, Map<String, String> env) throws IOException {
+        Path instanceDir = instanceDir(functionId, container.instanceId());
+        Files.createDirectories(instanceDir.getParent());
+        // 바인드 마운트는 디렉토리 자체를 따라가므로 같은 파일시스템 안에서 이름만 바꿔도 컨테이너에서 그대로 보임
+        // -> 이후 경로 규칙(instances/{functionId}/{instanceId})과 정리 로직을 일반 컨테이너와 공유
+        Files.move(poolRoot().resolve(container.instanceId()), instanceDir, StandardCopyOption.ATOMIC_MOVE);
+
+        containerOrchestrationPort.assignFunction(container.instanceId(), functionId);
+
+        Path targetDir = instanceDir.resolve("code");
+        linkTree(codeDir, targetDir);
+
+        // .ready는 마지막에 한 번에 생성 (컨테이너가 덜 쓰인 파일을 읽지 않도록)
+        Path temp = targetDir.resolve(READY_FILE + ".tmp");
+        objectMapper.writeValue(temp.toFile(), Map.of("env", (env != null) ? env : Map.of()));
+        Files.move(temp, targetDir.resolve(READY_FILE), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 패키지는 읽기 전용으로 마운트되므로 복사 대신 하드링크 (다른 파일시스템이면 복사)
+    private void linkTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Path link = target.resolve(source.relativize(file).toString());
+                try {
+                    Files.createLink(link, file);
+                } catch (IOException | UnsupportedOperationException e) {
+                    Files.copy(file, link, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void discard(PooledContainer container) {
+        try {
+            containerOrchestrationPort.removeContainer(container.instanceId());
+        } catch (Exception e) {
+            log.warn("Failed to remove pooled container {}: {}", container.instanceId(), e.getMessage());
+        }
+        FileSystemUtils.deleteRecursively(poolRoot().resolve(container.instanceId()).toFile());
+    }
+
+    private void removeLeftovers() {
+        Path root = poolRoot();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.forEach(dir -> {
+                String instanceId = dir.getFileName().toString();
+                log.info("Removing leftover pooled container: {}", instanceId);
+                containerOrchestrationPort.removeContainer(instanceId);
+                FileSystemUtils.deleteRecursively(dir.toFile());
+            });
+        } catch (IOException e) {
+            log.warn("Failed to clean up runtime pool directory: {}", e.getMessage());
+        }
+    }
+
+    private void recordClaim(Runtime runtime, String result) {
+        meterRegistry.counter("provisioner.runtime_pool.claim", "runtime", runtime.name(), "result", result).increment();
+    }
+
+    private Path poolRoot() {
+        return Paths.get(workspacePath, "instances", POOL_DIR);
+    }
+
+    private Path instanceDir(String functionId, String instanceId) {
+        return Paths.get(workspacePath, "instances", functionId, instanceId);
+    }
+
+    private static class RuntimePool {
+        // head = 가장 오래 대기한 컨테이너
+        private final ConcurrentLinkedDeque<PooledContainer> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger creating = new AtomicInteger();
+        // 마지막 tick 이후 할당 요청 수 (hit/miss 모두 수요로 봄)
+        private final AtomicInteger demand = new AtomicInteger();
+        // 초당 할당 요청 수 (EWMA, 스케줄러 스레드에서만 갱신)
+        private double rate;
+        private volatile long backoffUntil;
+        // [추가] 할당 전에 멈춘 컨테이너 연속 횟수 (할당에 성공하면 0)
+        private final AtomicInteger earlyExits = new AtomicInteger();
+
+        // 바로 다시 만들어도 같은 이유로 멈출 가능성이 높음 -> 30초, 60초, ... 최대 5분
+        void onEarlyExit() {
+            int exits = earlyExits.incrementAndGet();
+            long delay = Math.min(CREATE_BACKOFF_MILLIS << Math.min(exits - 1, 10), MAX_EXIT_BACKOFF_MILLIS);
+            backoffUntil = Math.max(backoffUntil, System.currentTimeMillis() + delay);
+        }
+
+        double updateRate(double alpha, double intervalSeconds) {
+            rate += alpha * (demand.getAndSet(0) / intervalSeconds - rate);
+            return rate;
+        }
+
+        int size() {
+            return idle.size() + creating.get();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.hanyahunya.provisioner.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public record ContainerInfo(
         String agentIp,
-        String sockPath
-) {}
\ No newline at end of file
+        String sockPath,
+        // [추가] 새로 생성된 컨테이너 표시 (Cold Start 요청의 nonce, Invoker가 반납할 때는 빠짐)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nonce
+) {}
@@ -0,0 +1,12 @@
+package com.hanyahunya.provisioner.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "provisioner.package-cache")
+public record PackageCacheProperties(
+        DataSize diskBudget,            // 압축 해제된 패키지 전체 용량 상한 (초과 시 오래 안 쓴 패키지부터 삭제)
+        Duration revalidateInterval     // 이 시간 안에 확인한 패키지는 S3 버전(ETag) 확인 없이 사용
+) {}
@@ -0,0 +1,18 @@
+package com.hanyahunya.provisioner.infra.config;
+
+import com.hanyahunya.provisioner.domain.model.Runtime;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "provisioner.runtime-pool")
+public record RuntimePoolProperties(
+        boolean enabled,
+        Set<Runtime> runtimes,      // 풀을 유지할 런타임 (이미지 bootstrap이 CODE_READY_FILE을 지원해야 함)
+        int minSize,                // 런타임별 최소 보관 수 (요청이 없어도 유지)
+        int maxSize,                // 런타임별 최대 보관 수
+        int maxTotal,               // 노드 전체 최대 보관 수
+        Duration refillTime,        // 풀 컨테이너 하나를 새로 띄우는 데 걸리는 시간 (목표 크기 계산용)
+        Duration demandHalfLife     // 요청률(EWMA) 반감기 -> 짧을수록 최근 요청에 빨리 반응
+) {}
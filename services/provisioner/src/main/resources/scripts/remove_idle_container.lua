@@ -0,0 +1,17 @@
+-- [Remove] 대기열에서 특정 컨테이너(IP + SockPath)를 찾아서 제거 (왕복 1회)
+-- nonce가 붙은 새 컨테이너는 JSON이 달라서 값을 재조립할 수 없음 -> 서버에서 필드로 비교 후 그 값 그대로 LREM
+-- KEYS[1]: func:idle:{functionId}
+-- ARGV[1]: agentIp
+-- ARGV[2]: sockPath
+-- 반환: 제거한 항목 수
+local entries = redis.call('LRANGE', KEYS[1], 0, -1)
+local removed = 0
+
+for _, entry in ipairs(entries) do
+    local ok, info = pcall(cjson.decode, entry)
+    if ok and type(info) == 'table' and info['agentIp'] == ARGV[1] and info['sockPath'] == ARGV[2] then
+        removed = removed + redis.call('LREM', KEYS[1], 0, entry)
+    end
+end
+
+return removed
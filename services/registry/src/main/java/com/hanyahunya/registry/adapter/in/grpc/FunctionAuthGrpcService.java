@@ -21,6 +21,9 @@ public class FunctionAuthGrpcService extends FunctionAuthServiceGrpc.FunctionAut
     public void verifyAccess(VerifyAccessRequest request, StreamObserver<VerifyAccessResponse> responseObserver) {
         boolean isValid = false;
         String s3Key = "";
+        int timeoutSeconds = 0;
+        String ownerId = "";
+        int resultCacheTtlSeconds = 0;
 
         try {
             UUID functionId = UUID.fromString(request.getFunctionId());
@@ -31,6 +34,9 @@ public class FunctionAuthGrpcService extends FunctionAuthServiceGrpc.FunctionAut
 
             isValid = result.isValid();
             s3Key = result.s3Key() != null ? result.s3Key() : "";
+            timeoutSeconds = result.timeoutSeconds();
+            ownerId = result.ownerId() != null ? result.ownerId().toString() : "";
+            resultCacheTtlSeconds = result.resultCacheTtlSeconds();
 
         } catch (IllegalArgumentException e) {
             log.warn("Invalid UUID format in gRPC request: {}", request.getFunctionId());
@@ -41,6 +47,9 @@ public class FunctionAuthGrpcService extends FunctionAuthServiceGrpc.FunctionAut
         VerifyAccessResponse response = VerifyAccessResponse.newBuilder()
                 .setIsValid(isValid)
                 .setS3Key(s3Key)
+                .setTimeoutSeconds(timeoutSeconds)
+                .setOwnerId(ownerId)
+                .setResultCacheTtlSeconds(resultCacheTtlSeconds)
                 .build();
 
         responseObserver.onNext(response);
@@ -1,15 +1,17 @@
 package com.hanyahunya.registry.adapter.in.web;
 
 import com.hanyahunya.registry.adapter.in.web.dto.FunctionRegisterRequest;
+import com.hanyahunya.registry.adapter.in.web.dto.ProvisionedConcurrencyRequest;
+import com.hanyahunya.registry.adapter.in.web.dto.ResultCacheSettingRequest;
+import com.hanyahunya.registry.application.port.in.function.ProvisionedConcurrencyUseCase;
 import com.hanyahunya.registry.application.port.in.function.RegisterFunctionUseCase;
+import com.hanyahunya.registry.application.port.in.function.ResultCacheSettingUseCase;
 import com.hanyahunya.registry.infra.security.UserPrincipal;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
@@ -19,6 +21,8 @@ import java.util.UUID;
 public class FunctionController {
 
     private final RegisterFunctionUseCase registerFunctionUseCase;
+    private final ProvisionedConcurrencyUseCase provisionedConcurrencyUseCase;
+    private final ResultCacheSettingUseCase resultCacheSettingUseCase;
 
     @PostMapping
     public ResponseEntity<RegisterFunctionUseCase.Result> registerFunction(
@@ -29,4 +33,26 @@ public class FunctionController {
         RegisterFunctionUseCase.Result response = registerFunctionUseCase.register(request.toCommand(userId));
         return ResponseEntity.ok(response);
     }
+
+    // [추가] 항상 유지할 Warm 컨테이너 수 설정 (0이면 해제)
+    @PutMapping("/{functionId}/provisioned-concurrency")
+    public ResponseEntity<ProvisionedConcurrencyUseCase.Result> updateProvisionedConcurrency(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable UUID functionId,
+            @RequestBody @Valid ProvisionedConcurrencyRequest request
+    ) {
+        ProvisionedConcurrencyUseCase.Result response = provisionedConcurrencyUseCase.update(request.toCommand(user.getUserId(), functionId));
+        return ResponseEntity.ok(response);
+    }
+
+    // [추가] 결과 캐시 설정 (같은 입력에 항상 같은 결과를 내는 함수만, 0이면 해제)
+    @PutMapping("/{functionId}/result-cache")
+    public ResponseEntity<ResultCacheSettingUseCase.Result> updateResultCache(
+            @AuthenticationPrincipal UserPrincipal user,
+            @PathVariable UUID functionId,
+            @RequestBody @Valid ResultCacheSettingRequest request
+    ) {
+        ResultCacheSettingUseCase.Result response = resultCacheSettingUseCase.update(request.toCommand(user.getUserId(), functionId));
+        return ResponseEntity.ok(response);
+    }
 }
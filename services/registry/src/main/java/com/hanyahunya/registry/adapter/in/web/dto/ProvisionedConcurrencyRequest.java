@@ -0,0 +1,23 @@
+package com.hanyahunya.registry.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hanyahunya.registry.application.port.in.function.ProvisionedConcurrencyUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.UUID;
+
+public record ProvisionedConcurrencyRequest(
+        @Min(0)
+        @Max(value = 50, message = "함수당 유지 컨테이너는 최대 50개입니다.")
+        @JsonProperty("provisioned_concurrency")
+        int provisionedConcurrency
+) {
+    public ProvisionedConcurrencyUseCase.Command toCommand(UUID userId, UUID functionId) {
+        return new ProvisionedConcurrencyUseCase.Command(
+                userId,
+                functionId,
+                provisionedConcurrency
+        );
+    }
+}
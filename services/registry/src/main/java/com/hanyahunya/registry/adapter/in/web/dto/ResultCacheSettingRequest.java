@@ -0,0 +1,23 @@
+package com.hanyahunya.registry.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hanyahunya.registry.application.port.in.function.ResultCacheSettingUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.UUID;
+
+public record ResultCacheSettingRequest(
+        @Min(0)
+        @Max(value = 86400, message = "결과 캐시 보관 시간은 최대 1일(86400초)입니다.")
+        @JsonProperty("result_cache_ttl_seconds")
+        int resultCacheTtlSeconds
+) {
+    public ResultCacheSettingUseCase.Command toCommand(UUID userId, UUID functionId) {
+        return new ResultCacheSettingUseCase.Command(
+                userId,
+                functionId,
+                resultCacheTtlSeconds
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.hanyahunya.registry.adapter.out.redis;
+
+import com.hanyahunya.registry.application.port.out.FunctionEventPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisFunctionEventAdapter implements FunctionEventPort {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String FUNCTION_CHANGED_CHANNEL = "func:changed";
+
+    @Override
+    public void publishFunctionChanged(UUID functionId) {
+        // 트랜잭션 안에서 호출되면 커밋 이후에 발행
+        // (커밋 전에 발행하면 Invoker가 변경 전 데이터를 다시 캐싱할 수 있음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(functionId);
+                }
+            });
+        } else {
+            publish(functionId);
+        }
+    }
+
+    private void publish(UUID functionId) {
+        try {
+            stringRedisTemplate.convertAndSend(FUNCTION_CHANGED_CHANNEL, functionId.toString());
+        } catch (Exception e) {
+            // 발행 실패 시에도 Invoker 캐시는 TTL로 만료되므로 등록 자체는 실패시키지 않음
+            log.warn("Failed to publish function change event [{}]: {}", functionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hanyahunya.registry.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanyahunya.registry.application.port.out.ProvisionedConcurrencyPort;
+import com.hanyahunya.registry.domain.exception.ProvisionedConcurrencySyncException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * [추가] 함수별 유지 컨테이너 수를 Redis Hash(prov:provisioned)에 기록
+ * - field: functionId, value: {"s3Key": ..., "target": N}
+ * - 0으로 바꿔도 필드는 남겨둠 -> Provisioner가 GC 제외를 해제한 뒤 필드를 삭제
+ * - [변경] 반영 실패는 삼키지 않고 요청 실패로 알림 (Redis를 DB에서 다시 채우는 경로가 없음 -> 재요청으로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisProvisionedConcurrencyAdapter implements ProvisionedConcurrencyPort {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String PROVISIONED_KEY = "prov:provisioned";
+
+    private record Target(String s3Key, int target) {}
+
+    @Override
+    public void publishTarget(UUID functionId, String s3Key, int provisionedConcurrency) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(new Target(s3Key, provisionedConcurrency));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize provisioned concurrency target", e);
+        }
+
+        // 커밋 전에 반영하면 롤백된 설정으로 컨테이너가 만들어질 수 있음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(functionId, value);
+                }
+            });
+        } else {
+            write(functionId, value);
+        }
+    }
+
+    // afterCommit에서 던진 예외는 호출자까지 전파됨 (DB는 이미 커밋됨, 같은 값으로 재요청하면 반영)
+    private void write(UUID functionId, String value) {
+        try {
+            stringRedisTemplate.opsForHash().put(PROVISIONED_KEY, functionId.toString(), value);
+        } catch (Exception e) {
+            log.error("Failed to publish provisioned concurrency [{}]: {}", functionId, e.getMessage());
+            throw new ProvisionedConcurrencySyncException(e);
+        }
+    }
+}
@@ -12,6 +12,9 @@ public interface FunctionAuthUseCase {
 
     record Result(
             boolean isValid,
-            String s3Key
+            String s3Key,
+            int timeoutSeconds,
+            UUID ownerId,
+            int resultCacheTtlSeconds
     ) {}
 }
@@ -0,0 +1,22 @@
+package com.hanyahunya.registry.application.port.in.function;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+public interface ProvisionedConcurrencyUseCase {
+    Result update(Command command);
+
+    record Command(
+            UUID userId,
+            UUID functionId,
+            int provisionedConcurrency
+    ) {}
+
+    record Result(
+            @JsonProperty("function_id")
+            UUID functionId,
+            @JsonProperty("provisioned_concurrency")
+            int provisionedConcurrency
+    ) {}
+}
@@ -0,0 +1,22 @@
+package com.hanyahunya.registry.application.port.in.function;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+public interface ResultCacheSettingUseCase {
+    Result update(Command command);
+
+    record Command(
+            UUID userId,
+            UUID functionId,
+            int resultCacheTtlSeconds
+    ) {}
+
+    record Result(
+            @JsonProperty("function_id")
+            UUID functionId,
+            @JsonProperty("result_cache_ttl_seconds")
+            int resultCacheTtlSeconds
+    ) {}
+}
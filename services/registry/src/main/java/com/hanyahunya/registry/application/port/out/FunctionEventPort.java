@@ -0,0 +1,8 @@
+package com.hanyahunya.registry.application.port.out;
+
+import java.util.UUID;
+
+public interface FunctionEventPort {
+    // 함수 생성/변경 이벤트 발행 (Invoker 캐시 무효화용)
+    void publishFunctionChanged(UUID functionId);
+}
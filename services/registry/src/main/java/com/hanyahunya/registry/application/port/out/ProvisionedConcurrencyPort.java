@@ -0,0 +1,8 @@
+package com.hanyahunya.registry.application.port.out;
+
+import java.util.UUID;
+
+public interface ProvisionedConcurrencyPort {
+    // 함수별 유지 컨테이너 수 반영 (Provisioner Reconciler가 읽음, 0이면 해제)
+    void publishTarget(UUID functionId, String s3Key, int provisionedConcurrency);
+}
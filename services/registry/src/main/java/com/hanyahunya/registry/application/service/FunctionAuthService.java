@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class FunctionAuthService implements FunctionAuthUseCase {
@@ -24,8 +26,14 @@ public class FunctionAuthService implements FunctionAuthUseCase {
                 .map(function -> {
                     boolean isValid = encodePort.matches(command.accessKey(), function.getAccessKey());
                     String s3Key = isValid ? function.getS3Key() : null;
-                    return new Result(isValid, s3Key);
+                    // [추가] Invoker가 Agent 호출 Deadline을 잡을 수 있도록 실행 제한 시간 전달
+                    int timeoutSeconds = isValid ? function.getTimeout() : 0;
+                    // [추가] 테넌트별 동시 실행 제한용 소유자 ID (지연 로딩 프록시에서 ID만 꺼내므로 추가 조회 없음)
+                    UUID ownerId = isValid ? function.getUser().getUserId() : null;
+                    // [추가] 결과 캐시 설정 (코드는 등록 시에만 올라가므로 functionId가 곧 코드 버전)
+                    int resultCacheTtlSeconds = isValid ? function.getResultCacheTtlSeconds() : 0;
+                    return new Result(isValid, s3Key, timeoutSeconds, ownerId, resultCacheTtlSeconds);
                 })
-                .orElse(new Result(false, null));
+                .orElse(new Result(false, null, 0, null, 0));
     }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ public class FunctionRegisterService implements RegisterFunctionUseCase {
     private final MaliciousCodeCheckAdapterFactory maliciousCodeCheckAdapterFactory;
     private final ObjectMapper objectMapper;
     private final EncodeAdapterFactory encodeFactory;
+    private final FunctionEventPort functionEventPort;
 
     @Override
     @Transactional
@@ -61,11 +62,14 @@ public class FunctionRegisterService implements RegisterFunctionUseCase {
                 .accessKey(encodePort.encode(accessKey))
                 .functionName(command.functionName())
                 .description(command.description())
+                .timeout(command.timeout())
                 .runtime(command.runtime())
                 .s3Key(s3Key)
                 .build();
 
         functionRepository.save(function);
+        // Invoker 인증 캐시 무효화 (커밋 이후 발행)
+        functionEventPort.publishFunctionChanged(functionId);
         log.info("Function Registered: {} (ID: {})", command.functionName(), functionId);
         return new Result(functionId, accessKey);
     }
@@ -0,0 +1,34 @@
+package com.hanyahunya.registry.application.service;
+
+import com.hanyahunya.registry.application.port.in.function.ProvisionedConcurrencyUseCase;
+import com.hanyahunya.registry.application.port.out.ProvisionedConcurrencyPort;
+import com.hanyahunya.registry.domain.exception.FunctionNotFoundException;
+import com.hanyahunya.registry.domain.model.Function;
+import com.hanyahunya.registry.domain.repository.FunctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProvisionedConcurrencyService implements ProvisionedConcurrencyUseCase {
+    private final FunctionRepository functionRepository;
+    private final ProvisionedConcurrencyPort provisionedConcurrencyPort;
+
+    @Override
+    @Transactional
+    public Result update(Command command) {
+        Function function = functionRepository.findById(command.functionId())
+                .filter(f -> f.isOwnedBy(command.userId()))
+                .orElseThrow(FunctionNotFoundException::new);
+
+        function.updateProvisionedConcurrency(command.provisionedConcurrency());
+        // Provisioner 반영 (커밋 이후)
+        provisionedConcurrencyPort.publishTarget(function.getFunctionId(), function.getS3Key(), function.getProvisionedConcurrency());
+
+        log.info("Provisioned concurrency updated: {} -> {}", function.getFunctionId(), function.getProvisionedConcurrency());
+        return new Result(function.getFunctionId(), function.getProvisionedConcurrency());
+    }
+}
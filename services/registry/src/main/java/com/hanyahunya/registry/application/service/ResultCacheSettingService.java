@@ -0,0 +1,34 @@
+package com.hanyahunya.registry.application.service;
+
+import com.hanyahunya.registry.application.port.in.function.ResultCacheSettingUseCase;
+import com.hanyahunya.registry.application.port.out.FunctionEventPort;
+import com.hanyahunya.registry.domain.exception.FunctionNotFoundException;
+import com.hanyahunya.registry.domain.model.Function;
+import com.hanyahunya.registry.domain.repository.FunctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultCacheSettingService implements ResultCacheSettingUseCase {
+    private final FunctionRepository functionRepository;
+    private final FunctionEventPort functionEventPort;
+
+    @Override
+    @Transactional
+    public Result update(Command command) {
+        Function function = functionRepository.findById(command.functionId())
+                .filter(f -> f.isOwnedBy(command.userId()))
+                .orElseThrow(FunctionNotFoundException::new);
+
+        function.updateResultCacheTtl(command.resultCacheTtlSeconds());
+        // Invoker 인증 캐시에 설정이 들어 있으므로 무효화 (커밋 이후 발행)
+        functionEventPort.publishFunctionChanged(function.getFunctionId());
+
+        log.info("Result cache TTL updated: {} -> {}s", function.getFunctionId(), function.getResultCacheTtlSeconds());
+        return new Result(function.getFunctionId(), function.getResultCacheTtlSeconds());
+    }
+}
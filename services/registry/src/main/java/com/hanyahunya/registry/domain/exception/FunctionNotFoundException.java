@@ -0,0 +1,7 @@
+package com.hanyahunya.registry.domain.exception;
+
+public class FunctionNotFoundException extends RuntimeException {
+    public FunctionNotFoundException() {
+        super("Function not found");
+    }
+}
@@ -0,0 +1,8 @@
+package com.hanyahunya.registry.domain.exception;
+
+// [추가] 유지 컨테이너 수는 저장되었지만 Provisioner에 반영하지 못한 경우 (같은 값으로 다시 요청하면 반영됨)
+public class ProvisionedConcurrencySyncException extends RuntimeException {
+    public ProvisionedConcurrencySyncException(Throwable cause) {
+        super("Failed to publish provisioned concurrency", cause);
+    }
+}
@@ -44,6 +44,14 @@ public class Function {
     @Column(name = "s3_key", nullable = false)
     private String s3Key;
 
+    // [추가] 항상 유지할 Warm 컨테이너 수 (0이면 트래픽에 따라서만 생성)
+    @Column(name = "provisioned_concurrency", nullable = false)
+    private int provisionedConcurrency;
+
+    // [추가] 결과 캐시 보관 시간 (0이면 캐시 안 함, 같은 입력에 같은 결과를 내는 함수만 사용)
+    @Column(name = "result_cache_ttl_seconds", nullable = false)
+    private int resultCacheTtlSeconds;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -67,4 +75,16 @@ public class Function {
         this.runtime = runtime;
         this.s3Key = s3Key;
     }
+
+    public void updateProvisionedConcurrency(int provisionedConcurrency) {
+        this.provisionedConcurrency = provisionedConcurrency;
+    }
+
+    public void updateResultCacheTtl(int resultCacheTtlSeconds) {
+        this.resultCacheTtlSeconds = resultCacheTtlSeconds;
+    }
+
+    public boolean isOwnedBy(UUID userId) {
+        return user.getUserId().equals(userId);
+    }
 }
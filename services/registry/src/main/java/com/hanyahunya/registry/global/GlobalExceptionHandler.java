@@ -1,7 +1,9 @@
 package com.hanyahunya.registry.global;
 
 import com.hanyahunya.registry.domain.exception.EmailAlreadyExistsException;
+import com.hanyahunya.registry.domain.exception.FunctionNotFoundException;
 import com.hanyahunya.registry.domain.exception.LoginFailedException;
+import com.hanyahunya.registry.domain.exception.ProvisionedConcurrencySyncException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,6 +21,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
+    // [추가] 다른 사용자의 함수도 존재 여부를 노출하지 않도록 404로 응답
+    @ExceptionHandler(FunctionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleFunctionNotFoundException(FunctionNotFoundException e) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("FUNCTION_NOT_FOUND", "함수를 찾을 수 없습니다."));
+    }
+
+    // [추가] 설정은 저장되었지만 Provisioner 반영 실패 -> 재시도하도록 503
+    @ExceptionHandler(ProvisionedConcurrencySyncException.class)
+    public ResponseEntity<ErrorResponse> handleProvisionedConcurrencySyncException(ProvisionedConcurrencySyncException e) {
+        log.error("ProvisionedConcurrencySyncException: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("PROVISIONED_CONCURRENCY_SYNC_FAILED", "설정을 반영하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
     @ExceptionHandler(LoginFailedException.class)
     public ResponseEntity<ErrorResponse> handleLoginFailedException(LoginFailedException e) {
 
@@ -0,0 +1,3 @@
+-- 항상 유지할 Warm 컨테이너 수 (0이면 트래픽에 따라서만 생성)
+ALTER TABLE functions
+    ADD COLUMN provisioned_concurrency INT NOT NULL DEFAULT 0;
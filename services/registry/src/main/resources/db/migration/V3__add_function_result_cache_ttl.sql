@@ -0,0 +1,3 @@
+-- 결과 캐시 보관 시간 (0이면 캐시 안 함)
+ALTER TABLE functions
+    ADD COLUMN result_cache_ttl_seconds INT NOT NULL DEFAULT 0;